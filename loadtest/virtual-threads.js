@@ -0,0 +1,63 @@
+// Prueba de carga para comparar hilos de plataforma vs. hilos virtuales.
+//
+//   k6 run -e BASE_URL=http://localhost:8030 -e IMAGE_ID=<id> -e USER_ID=1 -e TOKEN=<jwt> \
+//          -e VUS=1000 -e MODE=platform loadtest/virtual-threads.js
+//
+// Ejecutar una vez con VIRTUAL_THREADS_ENABLED=false y otra con true, mismo VUS y duración.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8030';
+const IMAGE_ID = __ENV.IMAGE_ID;
+const USER_ID = __ENV.USER_ID || '1';
+const TOKEN = __ENV.TOKEN || '';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+const imageDownload = new Trend('image_download_duration', true);
+const orderListing = new Trend('order_listing_duration', true);
+
+export const options = {
+    scenarios: {
+        image_download: {
+            executor: 'constant-vus',
+            exec: 'downloadImage',
+            vus: Math.ceil(VUS / 2),
+            duration: DURATION,
+        },
+        order_listing: {
+            executor: 'constant-vus',
+            exec: 'listOrders',
+            vus: Math.floor(VUS / 2),
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'p(99.9)', 'max'],
+    tags: { mode: __ENV.MODE || 'unknown' },
+};
+
+export function setup() {
+    if (!IMAGE_ID) {
+        throw new Error('IMAGE_ID es obligatorio (id de una imagen existente en GridFS)');
+    }
+}
+
+export function downloadImage() {
+    const res = http.get(`${BASE_URL}/api/v1/product/image/${IMAGE_ID}`, {
+        responseType: 'none',
+        tags: { endpoint: 'image' },
+    });
+    imageDownload.add(res.timings.duration);
+    check(res, { 'image 200': (r) => r.status === 200 });
+}
+
+export function listOrders() {
+    const headers = { 'User-Id': USER_ID };
+    if (TOKEN) {
+        headers.Authorization = `Bearer ${TOKEN}`;
+    }
+    const res = http.get(`${BASE_URL}/api/v1/orders`, { headers, tags: { endpoint: 'orders' } });
+    orderListing.add(res.timings.duration);
+    check(res, { 'orders 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,32 @@
+package org.services.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.services.orders.model.OrderItem;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderItemBenchmark {
+
+    private OrderItem item;
+
+    @Setup
+    public void setUp() {
+        item = new OrderItem("product-1", "Camiseta", null, 3, BigDecimal.valueOf(19.99), null);
+    }
+
+    @Benchmark
+    public BigDecimal calculateSubtotal() {
+        item.calculateSubtotal();
+        return item.getSubtotal();
+    }
+}
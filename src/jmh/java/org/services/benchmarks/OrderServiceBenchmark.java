@@ -0,0 +1,134 @@
+package org.services.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.services.orders.dto.request.CreateOrderRequest;
+import org.services.orders.dto.response.CreateOrderResponse;
+import org.services.orders.dto.response.OrderResponse;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.OrderItem;
+import org.services.orders.model.ShippingAddress;
+import org.services.orders.repository.OrderRepository;
+import org.services.orders.service.OrderEventPublisher;
+import org.services.orders.service.OrderService;
+import org.services.orders.service.UserOrderStatsService;
+import org.services.orders.utils.TrackingCodeGenerator;
+import org.services.products.model.ProductEntity;
+import org.services.products.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OrderService hot paths against in-memory repositories. Saved orders are not retained, so the
+ * heap stays flat across iterations and the gc profiler only reports the service's own garbage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderServiceBenchmark {
+
+    private static final Long USER_ID = 42L;
+    private static final String ORDER_ID = "order-1";
+
+    @Param({"1", "10", "50"})
+    public int itemCount;
+
+    private OrderService orderService;
+    private CreateOrderRequest createOrderRequest;
+
+    @Setup
+    public void setUp() {
+        Map<String, ProductEntity> products = new HashMap<>();
+        List<CreateOrderRequest.OrderItemRequest> itemRequests = new ArrayList<>(itemCount);
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            ProductEntity product = new ProductEntity("Producto " + i, "Descripción " + i, 9.99 + i);
+            product.setId("product-" + i);
+            product.setImageId("image-" + i);
+            products.put(product.getId(), product);
+
+            CreateOrderRequest.OrderItemRequest itemRequest = new CreateOrderRequest.OrderItemRequest();
+            itemRequest.setProductId(product.getId());
+            itemRequest.setQuantity(i + 1);
+            itemRequests.add(itemRequest);
+
+            OrderItem item = new OrderItem(product.getId(), product.getName(), product.getImageId(),
+                    i + 1, BigDecimal.valueOf(product.getPrice()), null);
+            item.calculateSubtotal();
+            items.add(item);
+        }
+
+        ShippingAddress address = new ShippingAddress("Calle 1", "Bogotá", "Cundinamarca", "Colombia",
+                "110111", "+573000000000", "Cliente Benchmark");
+
+        OrderEntity storedOrder = new OrderEntity();
+        storedOrder.setId(ORDER_ID);
+        storedOrder.setUserId(USER_ID);
+        storedOrder.setItems(items);
+        storedOrder.setTotal(items.stream().map(OrderItem::getSubtotal).reduce(BigDecimal.ZERO, BigDecimal::add));
+        storedOrder.setStatus(OrderEntity.OrderStatus.PENDING);
+        storedOrder.setCreatedAt(LocalDateTime.now());
+        storedOrder.setUpdatedAt(LocalDateTime.now());
+        storedOrder.setShippingAddress(address);
+        storedOrder.setPaymentMethod("CREDIT_CARD");
+        storedOrder.setTrackingCode("ORD-20250101-0001");
+
+        AtomicLong sequence = new AtomicLong();
+        OrderRepository orderRepository = RepositoryStubs.stub(OrderRepository.class, Map.of(
+                "save", args -> {
+                    OrderEntity order = (OrderEntity) args[0];
+                    order.setId("order-" + sequence.incrementAndGet());
+                    return order;
+                },
+                "existsByTrackingCode", args -> false,
+                "findById", args -> ORDER_ID.equals(args[0]) ? Optional.of(storedOrder) : Optional.empty()));
+        ProductRepository productRepository = RepositoryStubs.stub(ProductRepository.class, Map.of(
+                "findAllById", args -> {
+                    List<ProductEntity> found = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        ProductEntity product = products.get((String) id);
+                        if (product != null) {
+                            found.add(product);
+                        }
+                    }
+                    return found;
+                }));
+        UserOrderStatsService userOrderStatsService = new UserOrderStatsService(null, null) {
+            @Override
+            public void recordOrderCreated(OrderEntity order) {
+            }
+        };
+
+        orderService = new OrderService(orderRepository, productRepository, new TrackingCodeGenerator(),
+                new OrderEventPublisher(), userOrderStatsService);
+
+        createOrderRequest = new CreateOrderRequest();
+        createOrderRequest.setItems(itemRequests);
+        createOrderRequest.setShippingAddress(address);
+        createOrderRequest.setPaymentMethod("CREDIT_CARD");
+    }
+
+    @Benchmark
+    public CreateOrderResponse createOrder() {
+        return orderService.createOrder(createOrderRequest, USER_ID);
+    }
+
+    @Benchmark
+    public OrderResponse mapToOrderResponse() {
+        return orderService.getOrderById(ORDER_ID, USER_ID);
+    }
+}
@@ -0,0 +1,104 @@
+package org.services.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.services.configurations.singleflight.SingleFlight;
+import org.services.products.dto.response.ProductLookupResponse;
+import org.services.products.dto.response.ProductResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.repository.ProductRepository;
+import org.services.products.service.ProductService;
+import org.services.products.utils.cache.ProductCatalogCache;
+import org.services.products.utils.page.PageResult;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Covers ProductService.mapToResponse and PageResult construction through the public listing
+ * and batch lookup methods, backed by an in-memory repository, plus a catalog cache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductServiceBenchmark {
+
+    private static final int CATALOG_SIZE = 1_000;
+
+    @Param({"5", "50"})
+    public int pageSize;
+
+    private ProductService productService;
+    private ProductCatalogCache productCatalogCache;
+    private List<ProductResponse> pageContent;
+    private List<String> lookupIds;
+
+    @Setup
+    public void setUp() {
+        List<ProductEntity> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            ProductEntity product = new ProductEntity("Producto " + i, "Descripción del producto " + i, 10 + i);
+            product.setId("product-" + i);
+            product.setImageId(i % 2 == 0 ? "image-" + i : null);
+            catalog.add(product);
+        }
+
+        ProductRepository productRepository = RepositoryStubs.stub(ProductRepository.class, Map.of(
+                "findAll", args -> {
+                    Pageable pageable = (Pageable) args[0];
+                    int from = (int) pageable.getOffset();
+                    int to = Math.min(from + pageable.getPageSize(), catalog.size());
+                    return new PageImpl<>(catalog.subList(from, to), pageable, catalog.size());
+                },
+                "findAllById", args -> {
+                    List<ProductEntity> found = new ArrayList<>();
+                    for (Object id : (Iterable<?>) args[0]) {
+                        int index = Integer.parseInt(((String) id).substring("product-".length()));
+                        found.add(catalog.get(index));
+                    }
+                    return found;
+                }));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        productService = new ProductService(productRepository, null, null, new SingleFlight(meterRegistry));
+        productCatalogCache = new ProductCatalogCache(new ObjectMapper(), new SingleFlight(meterRegistry), meterRegistry,
+                5, 100, 64, true, 1024);
+
+        pageContent = productService.getAllProducts(0, pageSize).getContent();
+        lookupIds = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            lookupIds.add("product-" + (i * 7 % CATALOG_SIZE));
+        }
+    }
+
+    @Benchmark
+    public PageResult<ProductResponse> getAllProducts() {
+        return productService.getAllProducts(3, pageSize);
+    }
+
+    @Benchmark
+    public byte[] cachedCatalogPage() {
+        return productCatalogCache.getPage(3, pageSize, () -> productService.getAllProducts(3, pageSize)).json();
+    }
+
+    @Benchmark
+    public List<ProductLookupResponse> getProductsByIds() {
+        return productService.getProductsByIds(lookupIds);
+    }
+
+    @Benchmark
+    public PageResult<ProductResponse> pageResultConstruction() {
+        return new PageResult<>(pageContent, 3, pageSize, CATALOG_SIZE);
+    }
+}
@@ -0,0 +1,36 @@
+package org.services.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds in-memory implementations of Spring Data repository interfaces for benchmarks.
+ * Only the methods named in the handler map are supported; anything else fails loudly so a
+ * benchmark never silently measures an unexpected code path.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <T> T stub(Class<T> repositoryType, Map<String, Function<Object[], Object>> handlers) {
+        Object proxy = Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (instance, method, args) -> {
+                    Function<Object[], Object> handler = handlers.get(method.getName());
+                    if (handler != null) {
+                        return handler.apply(args == null ? new Object[0] : args);
+                    }
+                    return switch (method.getName()) {
+                        case "toString" -> repositoryType.getSimpleName() + "Stub";
+                        case "hashCode" -> System.identityHashCode(instance);
+                        case "equals" -> instance == args[0];
+                        default -> throw new UnsupportedOperationException(
+                                repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+                    };
+                });
+        return repositoryType.cast(proxy);
+    }
+}
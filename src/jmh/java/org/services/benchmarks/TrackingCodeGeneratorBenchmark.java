@@ -0,0 +1,24 @@
+package org.services.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.services.orders.utils.TrackingCodeGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrackingCodeGeneratorBenchmark {
+
+    private final TrackingCodeGenerator trackingCodeGenerator = new TrackingCodeGenerator();
+
+    @Benchmark
+    public String generateTrackingCode() {
+        return trackingCodeGenerator.generateTrackingCode();
+    }
+}
@@ -0,0 +1,38 @@
+package org.services.admin.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.services.configurations.querylog.QueryShapeStats;
+import org.services.configurations.querylog.SlowQueryLog;
+import org.services.configurations.querylog.SlowQueryRecord;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/queries")
+@RequiredArgsConstructor
+public class QueryProfileController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    @GetMapping("/slow")
+    public ResponseEntity<List<SlowQueryRecord>> getSlowQueries(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(slowQueryLog.recent(limit));
+    }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<QueryShapeStats>> getTopQueryShapes(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(slowQueryLog.topShapes(limit));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,23 @@
+package org.services.admin.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.services.configurations.reference.ReferenceDataRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/reference-data")
+@RequiredArgsConstructor
+public class ReferenceDataController {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Integer>> refresh() {
+        return ResponseEntity.ok(referenceDataRegistry.refresh());
+    }
+}
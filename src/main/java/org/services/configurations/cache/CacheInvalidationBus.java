@@ -0,0 +1,292 @@
+package org.services.configurations.cache;
+
+import com.mongodb.CursorType;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Reparte invalidaciones de caché entre nodos con una colección capped: quien escribe invalida lo suyo
+// e inserta un documento; el resto lo lee con un cursor tailable (o change stream) y vacía si pudo perder eventos
+@Slf4j
+@Component
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    static final String COLLECTION = "cache_invalidations";
+    private static final String MARKER = "__marker";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int NAMESPACE_EXISTS = 48;
+
+    private final MongoTemplate mongoTemplate;
+    private final Map<String, List<CacheInvalidationListener>> listeners;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final String mode;
+    private final long cappedSizeBytes;
+    private final long cappedMaxDocuments;
+    private final long awaitMs;
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread reader;
+    private BsonTimestamp lastSeen;
+    private BsonDocument resumeToken;
+
+    public CacheInvalidationBus(MongoTemplate mongoTemplate,
+                                List<CacheInvalidationListener> listeners,
+                                @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${cache.invalidation.mode:auto}") String mode,
+                                @Value("${cache.invalidation.capped-size-bytes:1048576}") long cappedSizeBytes,
+                                @Value("${cache.invalidation.capped-max-documents:10000}") long cappedMaxDocuments,
+                                @Value("${cache.invalidation.await-ms:1000}") long awaitMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.listeners = listeners.stream().collect(Collectors.groupingBy(CacheInvalidationListener::cacheName));
+        this.enabled = enabled;
+        this.mode = mode;
+        this.cappedSizeBytes = cappedSizeBytes;
+        this.cappedMaxDocuments = cappedMaxDocuments;
+        this.awaitMs = awaitMs;
+    }
+
+    // Si el envío falla solo se registra: la escritura que lo originó ya se hizo
+    public void publish(String cache, String... keys) {
+        List<String> keyList = Arrays.stream(keys).filter(Objects::nonNull).toList();
+        evictLocally(cache, keyList);
+        if (!enabled) {
+            return;
+        }
+        try {
+            collection().insertOne(event(cache, keyList));
+        } catch (MongoException e) {
+            log.warn("Could not broadcast invalidation of {} {}: {}", cache, keyList, e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        reader = new Thread(this::readLoop, "cache-invalidation-bus");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (reader != null) {
+            reader.interrupt();
+            try {
+                reader.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            reader = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    private void readLoop() {
+        Boolean changeStreams = null;
+        while (running) {
+            try {
+                if (changeStreams == null) {
+                    ensureCollection();
+                    changeStreams = useChangeStreams();
+                    log.info("Cache invalidation bus started as node {} using {}", nodeId,
+                            changeStreams ? "change streams" : "a tailable cursor");
+                }
+                if (changeStreams) {
+                    watch();
+                } else {
+                    tail();
+                }
+            } catch (MongoException e) {
+                if (!running) {
+                    return;
+                }
+                if (e instanceof MongoCommandException command && command.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    resumeToken = null;
+                    evictAll();
+                }
+                log.warn("Cache invalidation reader failed, retrying: {}", e.getMessage());
+                pause();
+            }
+        }
+    }
+
+    private void tail() {
+        if (lastSeen == null) {
+            lastSeen = insertMarker();
+        }
+
+        boolean sawAnchor = false;
+        try (MongoCursor<Document> cursor = collection().find(Filters.gte("ts", lastSeen))
+                .cursorType(CursorType.TailableAwait)
+                .maxAwaitTime(awaitMs, TimeUnit.MILLISECONDS)
+                .iterator()) {
+            listening = true;
+            while (running) {
+                Document event = cursor.tryNext();
+                if (event == null) {
+                    if (cursor.getServerCursor() == null) {
+                        break;
+                    }
+                    continue;
+                }
+                BsonTimestamp ts = event.get("ts", BsonTimestamp.class);
+                if (!sawAnchor) {
+                    sawAnchor = true;
+                    if (!lastSeen.equals(ts)) {
+                        // Lo primero que devuelve el cursor no es el último evento leído: el capped lo sobrescribió
+                        log.warn("Cache invalidation cursor skipped past its last event, evicting every cache");
+                        evictAll();
+                    }
+                }
+                if (ts == null || ts.compareTo(lastSeen) <= 0) {
+                    continue;
+                }
+                lastSeen = ts;
+                dispatch(event);
+            }
+        }
+
+        if (running && !sawAnchor) {
+            // El último evento leído ya no está y no hay nada más nuevo: pudo perderse alguno
+            log.warn("Cache invalidation cursor lost its position, evicting every cache");
+            lastSeen = null;
+            evictAll();
+        } else if (running) {
+            pause();
+        }
+    }
+
+    private void watch() {
+        ChangeStreamIterable<Document> stream = collection()
+                .watch(List.of(Aggregates.match(Filters.eq("operationType", "insert"))))
+                .maxAwaitTime(awaitMs, TimeUnit.MILLISECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            listening = true;
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change == null) {
+                    continue;
+                }
+                resumeToken = change.getResumeToken();
+                if (change.getFullDocument() != null) {
+                    dispatch(change.getFullDocument());
+                }
+            }
+        }
+    }
+
+    private void dispatch(Document event) {
+        String cache = event.getString("cache");
+        if (nodeId.equals(event.getString("origin")) || MARKER.equals(cache)) {
+            return;
+        }
+        evictLocally(cache, event.getList("keys", String.class, List.of()));
+    }
+
+    private void evictLocally(String cache, Collection<String> keys) {
+        for (CacheInvalidationListener listener : listeners.getOrDefault(cache, List.of())) {
+            try {
+                listener.evict(keys);
+            } catch (RuntimeException e) {
+                log.warn("Cache {} failed to evict {}: {}", cache, keys, e.getMessage());
+            }
+        }
+    }
+
+    private void evictAll() {
+        listeners.keySet().forEach(cache -> evictLocally(cache, List.of(CacheInvalidationListener.ALL_KEYS)));
+    }
+
+    private BsonTimestamp insertMarker() {
+        Document marker = event(MARKER, List.of());
+        collection().insertOne(marker);
+        Document stored = collection().find(Filters.eq("_id", marker.getObjectId("_id"))).first();
+        return stored.get("ts", BsonTimestamp.class);
+    }
+
+    private Document event(String cache, List<String> keys) {
+        // Un timestamp vacío en el nivel superior lo rellena el servidor: orden total de inserción entre nodos
+        return new Document("_id", new ObjectId())
+                .append("ts", new BsonTimestamp())
+                .append("cache", cache)
+                .append("keys", keys)
+                .append("origin", nodeId);
+    }
+
+    private void ensureCollection() {
+        if (mongoTemplate.collectionExists(COLLECTION)) {
+            return;
+        }
+        try {
+            mongoTemplate.createCollection(COLLECTION,
+                    CollectionOptions.empty().capped().size(cappedSizeBytes).maxDocuments(cappedMaxDocuments));
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean useChangeStreams() {
+        return switch (mode) {
+            case "change-stream" -> true;
+            case "tailable" -> false;
+            default -> mongoTemplate.executeCommand(new Document("hello", 1)).containsKey("setName");
+        };
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(COLLECTION);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(Math.min(awaitMs, 500));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
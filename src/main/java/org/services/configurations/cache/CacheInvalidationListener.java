@@ -0,0 +1,14 @@
+package org.services.configurations.cache;
+
+import java.util.Collection;
+
+// Caché local que se invalida cuando cualquier nodo escribe; recibe invalidaciones locales y remotas
+public interface CacheInvalidationListener {
+
+    // Se envía cuando pudieron perderse eventos y hay que vaciar la caché entera
+    String ALL_KEYS = "*";
+
+    String cacheName();
+
+    void evict(Collection<String> keys);
+}
@@ -0,0 +1,9 @@
+package org.services.configurations.cache;
+
+public final class CacheNames {
+
+    public static final String PRODUCT = "product";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,24 @@
+package org.services.configurations.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@ConditionalOnProperty(name = "users.datasource.replicas.enabled", havingValue = "true")
+public class ReadAfterWriteFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (ReadWriteRoutingDataSource.ReadAfterWriteScope scope = ReadWriteRoutingDataSource.openReadAfterWriteScope()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
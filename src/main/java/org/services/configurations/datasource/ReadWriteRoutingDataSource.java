@@ -0,0 +1,214 @@
+package org.services.configurations.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a round-robin pool of replicas and everything else to the
+ * primary. Replicas that fail a connection attempt or a health check are ejected until the next
+ * successful check. A write pins later reads to the primary for as long as the enclosing
+ * {@link #openReadAfterWriteScope() read-after-write scope} is open, so a request always sees its
+ * own writes. Outside a scope (scheduled jobs, worker pools) the pin only lasts until the writing
+ * transaction completes, so a thread is never left on the primary after it moves on.
+ *
+ * <p>Must be wrapped in a {@code LazyConnectionDataSourceProxy}: transaction managers fetch the
+ * connection before the read-only flag is bound to the thread.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<ReadAfterWriteScope> SCOPE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> TRANSACTION_PINNED = new ThreadLocal<>();
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        List<ReplicaNode> nodes = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> nodes.add(new ReplicaNode(name, dataSource)));
+        this.replicas = List.copyOf(nodes);
+    }
+
+    public static ReadAfterWriteScope openReadAfterWriteScope() {
+        ReadAfterWriteScope scope = new ReadAfterWriteScope(SCOPE.get());
+        SCOPE.set(scope);
+        return scope;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaNode replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+            replica.markDown(e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ReplicaNode replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection(username, password);
+        }
+
+        try {
+            return replica.dataSource().getConnection(username, password);
+        } catch (SQLException e) {
+            replica.markDown(e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${users.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (ReplicaNode replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown("connection is not valid");
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(ReplicaNode::isHealthy).count();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private ReplicaNode selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinPrimary();
+            }
+            return null;
+        }
+        if (isPrimaryPinned()) {
+            return null;
+        }
+
+        int size = replicas.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            ReplicaNode candidate = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), size));
+            if (candidate.isHealthy()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static void pinPrimary() {
+        ReadAfterWriteScope scope = SCOPE.get();
+        if (scope != null) {
+            scope.pinned = true;
+            return;
+        }
+        if (TRANSACTION_PINNED.get() == null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TRANSACTION_PINNED.set(Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TRANSACTION_PINNED.remove();
+                }
+            });
+        }
+    }
+
+    private static boolean isPrimaryPinned() {
+        ReadAfterWriteScope scope = SCOPE.get();
+        return (scope != null && scope.pinned) || TRANSACTION_PINNED.get() != null;
+    }
+
+    /**
+     * Keeps reads on the primary after the first write until closed. Scopes nest: a write in an
+     * inner scope also pins the outer one.
+     */
+    public static final class ReadAfterWriteScope implements AutoCloseable {
+
+        private final ReadAfterWriteScope outer;
+        private boolean pinned;
+
+        private ReadAfterWriteScope(ReadAfterWriteScope outer) {
+            this.outer = outer;
+            this.pinned = outer != null && outer.pinned;
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                SCOPE.remove();
+                return;
+            }
+            outer.pinned |= pinned;
+            SCOPE.set(outer);
+        }
+    }
+
+    private static final class ReplicaNode {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private ReplicaNode(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        boolean isHealthy() {
+            return healthy;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Replica {} is healthy again and back in rotation", name);
+            }
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Replica {} ejected from rotation: {}", name, reason);
+            }
+        }
+    }
+}
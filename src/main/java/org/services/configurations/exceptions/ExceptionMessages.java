@@ -25,6 +25,13 @@ public final class ExceptionMessages {
     public static final String LOGIN_ERROR_MESSAGE_ES = "Email o contraseña incorrectos";
     public static final String INVALID_EMAIL_FORMAT_MESSAGE_ES = "Formato de email inválido";
     public static final String ROLE_NOT_FOUND_MESSAGE_ES = "Rol no encontrado: ";
+    public static final String INVALID_ACCESS_TOKEN_MESSAGE_ES = "Token de acceso inválido o expirado";
+    public static final String TOO_MANY_LOGIN_ATTEMPTS_MESSAGE_ES = "Demasiados intentos de inicio de sesión, intente más tarde";
+    public static final String LOGIN_CAPACITY_EXCEEDED_MESSAGE_ES = "Demasiadas solicitudes de inicio de sesión, intente de nuevo en unos segundos";
+    public static final String IMPORT_FILE_EMPTY_MESSAGE_ES = "El archivo de importación está vacío";
+    public static final String IMPORT_INVALID_HEADER_MESSAGE_ES = "Encabezado de importación inválido, se esperaba: ";
+    public static final String IMPORT_INVALID_ROW_MESSAGE_ES = "Fila con formato inválido: ";
+    public static final String IMPORT_DUPLICATE_EMAIL_MESSAGE_ES = "Email repetido en el archivo: ";
     
     // Validation Exceptions - Mensajes en Español
     public static final String VALIDATION_ERROR_MESSAGE_ES = "Error de validación: ";
@@ -52,6 +59,11 @@ public final class ExceptionMessages {
     public static final String INVALID_PAYMENT_METHOD = "Metodo de pago invalido";
     public static final String ERROR_TRACKING_CODE = "No se pudo generar un código de seguimiento único";
     public static final String ORDER_NOT_FOUND = "Orden no encontrada";
+    public static final String EXPORT_INVALID_RANGE = "El rango de fechas de exportación es inválido";
+    public static final String EXPORT_INVALID_FORMAT = "Formato de exportación no soportado: ";
+    public static final String BATCH_IDS_REQUIRED = "Debe enviar al menos un identificador";
+    public static final String BATCH_LIMIT_EXCEEDED = "Se excedió el máximo de identificadores por consulta: ";
+    public static final String EXPORT_INVALID_CURSOR = "Identificador de reanudación inválido: ";
     
 
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package org.services.configurations.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the bytes allocated by the request thread as {@code http.controller.allocated.bytes},
+ * tagged by controller class and method, and warns when an endpoint goes over its allocation
+ * budget. Work done on other threads (async exports, executor pools) is not attributed, and
+ * requests served by virtual threads are skipped because the JVM does not track their allocations.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "diagnostics.allocations.enabled", havingValue = "true", matchIfMissing = true)
+public class AllocationTrackingFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.controller.allocated.bytes";
+    static final String BUDGET_EXCEEDED_METRIC_NAME = "http.controller.allocation.budget.exceeded";
+    private static final long WARN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long defaultBudgetBytes;
+    private final Map<String, Long> budgets;
+    private final Map<String, Long> lastWarnings = new ConcurrentHashMap<>();
+
+    public AllocationTrackingFilter(MeterRegistry meterRegistry,
+                                    @Value("${diagnostics.allocations.default-budget-bytes:8388608}") long defaultBudgetBytes,
+                                    @Value("${diagnostics.allocations.budgets:}") String budgets) {
+        this.meterRegistry = meterRegistry;
+        this.threadMXBean = supportedThreadMXBean();
+        this.defaultBudgetBytes = defaultBudgetBytes;
+        this.budgets = parseBudgets(budgets);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return threadMXBean == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Devuelve -1 en hilos virtuales: sus asignaciones se cargan al carrier, que puede cambiar
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        if (before < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            if (!request.isAsyncStarted()
+                    && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+                record(handlerMethod, allocated);
+            }
+        }
+    }
+
+    void record(HandlerMethod handlerMethod, long allocatedBytes) {
+        if (allocatedBytes < 0) {
+            return;
+        }
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Bytes allocated by the request thread per controller method")
+                .baseUnit("bytes")
+                .tag("controller", controller)
+                .tag("method", method)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(allocatedBytes);
+
+        String endpoint = controller + "." + method;
+        long budget = budgets.getOrDefault(endpoint, defaultBudgetBytes);
+        if (budget > 0 && allocatedBytes > budget) {
+            Counter.builder(BUDGET_EXCEEDED_METRIC_NAME)
+                    .description("Requests that allocated more than their endpoint budget")
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            warnThrottled(endpoint, allocatedBytes, budget);
+        }
+    }
+
+    private void warnThrottled(String endpoint, long allocatedBytes, long budget) {
+        long now = System.nanoTime();
+        Long last = lastWarnings.get(endpoint);
+        if (last != null && now - last < WARN_INTERVAL_NANOS) {
+            return;
+        }
+        lastWarnings.put(endpoint, now);
+        log.warn("{} allocated {} KB in one request, budget is {} KB", endpoint, allocatedBytes / 1024, budget / 1024);
+    }
+
+    private static com.sun.management.ThreadMXBean supportedThreadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            log.warn("Thread allocation accounting is not supported by this JVM; allocation metrics are disabled");
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+
+    static Map<String, Long> parseBudgets(String budgets) {
+        Map<String, Long> parsed = new HashMap<>();
+        if (budgets == null || budgets.isBlank()) {
+            return parsed;
+        }
+        for (String entry : budgets.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid allocation budget entry: " + entry);
+            }
+            parsed.put(parts[0].trim(), Long.parseLong(parts[1].trim()));
+        }
+        return parsed;
+    }
+}
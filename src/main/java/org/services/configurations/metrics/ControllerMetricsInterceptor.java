@@ -0,0 +1,58 @@
+package org.services.configurations.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every controller method as {@code http.controller.requests}, tagged by controller class,
+ * Java method name and response status. Async handlers (streaming exports) are timed until the
+ * final dispatch completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ControllerMetricsInterceptor implements HandlerInterceptor {
+
+    static final String METRIC_NAME = "http.controller.requests";
+    private static final String START_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.isAsyncStarted()) {
+            return;
+        }
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+
+        Timer.builder(METRIC_NAME)
+                .description("Latency of each controller method")
+                .tag("controller", handlerMethod.getBeanType().getSimpleName())
+                .tag("method", handlerMethod.getMethod().getName())
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("exception", ex == null ? "none" : ex.getClass().getSimpleName())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
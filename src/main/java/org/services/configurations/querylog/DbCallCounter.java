@@ -0,0 +1,49 @@
+package org.services.configurations.querylog;
+
+/**
+ * Per-request count of Mongo commands and JDBC statements. Counting only happens on threads where
+ * {@link #begin()} was called, so background jobs and disabled environments pay a single
+ * thread-local lookup per query.
+ */
+public final class DbCallCounter {
+
+    public static final String HEADER = "X-DB-Calls";
+
+    private static final int MONGO = 0;
+    private static final int JDBC = 1;
+    private static final ThreadLocal<long[]> COUNTS = new ThreadLocal<>();
+
+    private DbCallCounter() {
+    }
+
+    static void begin() {
+        COUNTS.set(new long[2]);
+    }
+
+    static void end() {
+        COUNTS.remove();
+    }
+
+    static void mongoCommand() {
+        increment(MONGO);
+    }
+
+    static void jdbcStatement() {
+        increment(JDBC);
+    }
+
+    static String headerValue() {
+        long[] counts = COUNTS.get();
+        if (counts == null) {
+            return null;
+        }
+        return "total=" + (counts[MONGO] + counts[JDBC]) + ", mongo=" + counts[MONGO] + ", jdbc=" + counts[JDBC];
+    }
+
+    private static void increment(int kind) {
+        long[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[kind]++;
+        }
+    }
+}
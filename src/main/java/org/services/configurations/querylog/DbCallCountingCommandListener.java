@@ -0,0 +1,14 @@
+package org.services.configurations.querylog;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+public class DbCallCountingCommandListener implements CommandListener {
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!SlowQueryCommandListener.IGNORED_COMMANDS.contains(event.getCommandName())) {
+            DbCallCounter.mongoCommand();
+        }
+    }
+}
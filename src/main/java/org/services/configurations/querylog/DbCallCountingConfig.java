@@ -0,0 +1,38 @@
+package org.services.configurations.querylog;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Feeds {@link DbCallCounter} with its own Mongo listener and DataSource wrapper, so the
+ * {@code X-DB-Calls} header does not depend on slow-query logging being enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.db-calls.header-enabled", havingValue = "true")
+public class DbCallCountingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer dbCallCountingMongoCustomizer() {
+        return builder -> builder.addCommandListener(new DbCallCountingCommandListener());
+    }
+
+    @Bean
+    public static BeanPostProcessor dbCallCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new DbCallCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package org.services.configurations.querylog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "diagnostics.db-calls.header-enabled", havingValue = "true")
+public class DbCallHeaderFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DbCallCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            log.debug("{} {} database calls: {}", request.getMethod(), request.getRequestURI(), DbCallCounter.headerValue());
+            DbCallCounter.end();
+        }
+    }
+}
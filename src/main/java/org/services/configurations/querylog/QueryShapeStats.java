@@ -0,0 +1,12 @@
+package org.services.configurations.querylog;
+
+public record QueryShapeStats(
+        String source,
+        String shape,
+        long count,
+        long totalMicros,
+        long maxMicros,
+        long avgMicros,
+        String lastCaller
+) {
+}
@@ -0,0 +1,105 @@
+package org.services.configurations.querylog;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces queries to their shape: literal values become {@code ?} so that executions that differ
+ * only in parameters aggregate together.
+ */
+final class QueryShapes {
+
+    private static final Set<String> MONGO_SHAPE_FIELDS = Set.of(
+            "filter", "sort", "projection", "pipeline", "q", "u", "query", "update", "updates", "deletes", "limit");
+    private static final Pattern SQL_STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern SQL_NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern SQL_IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SHAPE_LENGTH = 500;
+
+    private QueryShapes() {
+    }
+
+    static String mongo(String commandName, String collection, BsonDocument command) {
+        StringBuilder shape = new StringBuilder(commandName);
+        if (collection != null) {
+            shape.append(' ').append(collection);
+        }
+        for (String field : command.keySet()) {
+            if (MONGO_SHAPE_FIELDS.contains(field)) {
+                shape.append(' ').append(field).append('=');
+                appendShape(shape, command.get(field));
+            }
+        }
+        return truncate(shape);
+    }
+
+    /**
+     * Detached copy of the fields {@link #mongo} reads, cheap enough to take for every command so
+     * the shape itself is only built for the slow ones.
+     */
+    static BsonDocument mongoShapeFields(BsonDocument command) {
+        BsonDocument fields = new BsonDocument();
+        for (String field : command.keySet()) {
+            if (MONGO_SHAPE_FIELDS.contains(field)) {
+                BsonValue value = command.get(field);
+                if (value.isDocument()) {
+                    value = value.asDocument().clone();
+                } else if (value.isArray()) {
+                    value = value.asArray().clone();
+                }
+                fields.put(field, value);
+            }
+        }
+        return fields;
+    }
+
+    static String sql(String sql) {
+        String shape = SQL_STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = SQL_NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = SQL_IN_LIST.matcher(shape).replaceAll("(?...)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return truncate(new StringBuilder(shape));
+    }
+
+    private static void appendShape(StringBuilder shape, BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            shape.append('{');
+            boolean first = true;
+            for (String key : document.keySet()) {
+                if (!first) {
+                    shape.append(',');
+                }
+                first = false;
+                shape.append(key).append(':');
+                appendShape(shape, document.get(key));
+            }
+            shape.append('}');
+        } else if (value.isArray()) {
+            BsonArray array = value.asArray();
+            if (!array.isEmpty() && array.get(0).isDocument()) {
+                shape.append('[');
+                for (int i = 0; i < array.size(); i++) {
+                    if (i > 0) {
+                        shape.append(',');
+                    }
+                    appendShape(shape, array.get(i));
+                }
+                shape.append(']');
+            } else {
+                shape.append("[?]");
+            }
+        } else {
+            shape.append('?');
+        }
+    }
+
+    private static String truncate(StringBuilder shape) {
+        return shape.length() <= MAX_SHAPE_LENGTH ? shape.toString() : shape.substring(0, MAX_SHAPE_LENGTH) + "...";
+    }
+}
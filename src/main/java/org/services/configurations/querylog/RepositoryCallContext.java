@@ -0,0 +1,49 @@
+package org.services.configurations.querylog;
+
+import java.util.Optional;
+
+/**
+ * Remembers which repository method the current thread is executing so that query listeners,
+ * which only see the raw command, can attribute it. Falls back to the nearest application frame
+ * for queries issued through MongoTemplate or JdbcTemplate directly.
+ */
+public final class RepositoryCallContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    private static final String APPLICATION_PACKAGE = "org.services.";
+    private static final String OWN_PACKAGE = RepositoryCallContext.class.getPackageName();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private RepositoryCallContext() {
+    }
+
+    static String enter(String repositoryMethod) {
+        String previous = CURRENT.get();
+        CURRENT.set(repositoryMethod);
+        return previous;
+    }
+
+    static void exit(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static String current() {
+        return CURRENT.get();
+    }
+
+    static String resolveCaller(String repositoryMethod) {
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+        Optional<String> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(f -> !f.getClassName().startsWith(OWN_PACKAGE))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName()));
+        return frame.orElse("unknown");
+    }
+}
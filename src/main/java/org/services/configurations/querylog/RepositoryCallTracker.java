@@ -0,0 +1,40 @@
+package org.services.configurations.querylog;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds an interceptor to every Spring Data repository that publishes the repository method being
+ * executed in {@link RepositoryCallContext}, so slow query records name the method that issued them.
+ */
+public class RepositoryCallTracker implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            interceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor interceptor(String repositoryName) {
+        Map<Method, String> names = new ConcurrentHashMap<>();
+        return invocation -> {
+            String repositoryMethod = names.computeIfAbsent(invocation.getMethod(),
+                    method -> repositoryName + "." + method.getName());
+            String previous = RepositoryCallContext.enter(repositoryMethod);
+            try {
+                return invocation.proceed();
+            } finally {
+                RepositoryCallContext.exit(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package org.services.configurations.querylog;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records Mongo commands slower than the threshold. The driver may release the command document
+ * once the started callback returns, so only a copy of the shape-relevant fields is kept then;
+ * the shape is normalized after the command finishes and only if it was slow.
+ */
+@RequiredArgsConstructor
+public class SlowQueryCommandListener implements CommandListener {
+
+    static final String SOURCE = "mongo";
+
+    static final Set<String> IGNORED_COMMANDS = Set.of(
+            "hello", "isMaster", "ismaster", "ping", "buildInfo", "saslStart", "saslContinue", "endSessions");
+
+    private final SlowQueryLog slowQueryLog;
+    private final Map<Integer, PendingCommand> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (IGNORED_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        pending.put(event.getRequestId(), new PendingCommand(
+                event.getCommandName(),
+                collectionOf(event.getCommandName(), command),
+                QueryShapes.mongoShapeFields(command),
+                RepositoryCallContext.current()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        PendingCommand command = pending.remove(event.getRequestId());
+        long durationNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        if (command != null && slowQueryLog.isSlow(durationNanos)) {
+            slowQueryLog.record(SOURCE, command.shape(), durationNanos, documentsIn(event.getResponse()),
+                    RepositoryCallContext.resolveCaller(command.repositoryMethod()), false);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        PendingCommand command = pending.remove(event.getRequestId());
+        long durationNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        if (command != null && slowQueryLog.isSlow(durationNanos)) {
+            slowQueryLog.record(SOURCE, command.shape(), durationNanos, -1,
+                    RepositoryCallContext.resolveCaller(command.repositoryMethod()), true);
+        }
+    }
+
+    private static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue target = "getMore".equals(commandName) ? command.get("collection") : command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : null;
+    }
+
+    private static long documentsIn(BsonDocument response) {
+        if (response == null) {
+            return -1;
+        }
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().containsKey("firstBatch")
+                    ? cursor.asDocument().get("firstBatch")
+                    : cursor.asDocument().get("nextBatch");
+            if (batch != null && batch.isArray()) {
+                return batch.asArray().size();
+            }
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+
+    private record PendingCommand(String commandName, String collection, BsonDocument shapeFields,
+                                  String repositoryMethod) {
+
+        String shape() {
+            return QueryShapes.mongo(commandName, collection, shapeFields);
+        }
+    }
+}
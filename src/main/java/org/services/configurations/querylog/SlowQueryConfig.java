@@ -0,0 +1,40 @@
+package org.services.configurations.querylog;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.slow-queries.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryMongoCustomizer(SlowQueryLog slowQueryLog) {
+        return builder -> builder.addCommandListener(new SlowQueryCommandListener(slowQueryLog));
+    }
+
+    @Bean
+    public static RepositoryCallTracker repositoryCallTracker() {
+        return new RepositoryCallTracker();
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new SlowQueryDataSource(dataSource, slowQueryLog.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package org.services.configurations.querylog;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the application DataSource so every statement execution is timed. Queries are timed from
+ * execution until their result set is exhausted or closed, so the row count is known when the
+ * record is written.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    static final String SOURCE = "jdbc";
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrapStatement(Class<S> type, S statement, String preparedSql) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            String repositoryMethod = RepositoryCallContext.current();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoke(statement, method, args);
+            } catch (SQLException e) {
+                record(sql, System.nanoTime() - start, -1, repositoryMethod, true);
+                throw e;
+            }
+
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet, sql, start, repositoryMethod);
+            }
+            record(sql, System.nanoTime() - start, affectedRows(result), repositoryMethod, false);
+            return result;
+        });
+    }
+
+    private ResultSet wrapResultSet(ResultSet resultSet, String sql, long start, String repositoryMethod) {
+        long[] rows = {0};
+        boolean[] recorded = {false};
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            boolean exhausted = "next".equals(method.getName()) && !Boolean.TRUE.equals(result);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                rows[0]++;
+            }
+            if ((exhausted || "close".equals(method.getName())) && !recorded[0]) {
+                recorded[0] = true;
+                record(sql, System.nanoTime() - start, rows[0], repositoryMethod, false);
+            }
+            return result;
+        });
+    }
+
+    private void record(String sql, long durationNanos, long rows, String repositoryMethod, boolean failed) {
+        if (sql != null && slowQueryLog.isSlow(durationNanos)) {
+            slowQueryLog.record(SOURCE, QueryShapes.sql(sql), durationNanos, rows,
+                    RepositoryCallContext.resolveCaller(repositoryMethod), failed);
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        if (result instanceof long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "unwrap", "isWrapperFor" -> invoke(target, method, args);
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+}
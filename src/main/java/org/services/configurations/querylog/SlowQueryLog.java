@@ -0,0 +1,108 @@
+package org.services.configurations.querylog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring buffer of queries slower than the configured threshold. Writers
+ * claim a slot with a single atomic increment and overwrite the oldest entry; readers take a
+ * snapshot and skip slots that were overwritten while they were reading.
+ */
+@Component
+public class SlowQueryLog {
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private final int mask;
+    private final long thresholdNanos;
+
+    public SlowQueryLog(@Value("${diagnostics.slow-queries.capacity:1024}") int capacity,
+                        @Value("${diagnostics.slow-queries.threshold-ms:100}") long thresholdMs) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+    }
+
+    public boolean isSlow(long durationNanos) {
+        return durationNanos >= thresholdNanos;
+    }
+
+    public void record(String source, String shape, long durationNanos, long documents, String caller, boolean failed) {
+        SlowQueryRecord record = new SlowQueryRecord(source, shape, TimeUnit.NANOSECONDS.toMicros(durationNanos),
+                documents, caller, failed, Instant.now());
+        long position = sequence.getAndIncrement();
+        slots.set((int) (position & mask), new Slot(position, record));
+    }
+
+    public List<SlowQueryRecord> recent(int limit) {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        List<SlowQueryRecord> records = new ArrayList<>();
+        for (long position = end - 1; position >= start && records.size() < limit; position--) {
+            Slot slot = slots.get((int) (position & mask));
+            if (slot != null && slot.position() == position) {
+                records.add(slot.record());
+            }
+        }
+        return records;
+    }
+
+    public List<QueryShapeStats> topShapes(int limit) {
+        Map<String, ShapeAccumulator> byShape = new LinkedHashMap<>();
+        for (SlowQueryRecord record : recent(slots.length())) {
+            byShape.computeIfAbsent(record.source() + '|' + record.shape(), key -> new ShapeAccumulator(record))
+                    .add(record);
+        }
+        return byShape.values().stream()
+                .map(ShapeAccumulator::toStats)
+                .sorted(Comparator.comparingLong(QueryShapeStats::totalMicros).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private record Slot(long position, SlowQueryRecord record) {
+    }
+
+    private static final class ShapeAccumulator {
+
+        private final String source;
+        private final String shape;
+        private final String lastCaller;
+        private long count;
+        private long totalMicros;
+        private long maxMicros;
+
+        private ShapeAccumulator(SlowQueryRecord newest) {
+            this.source = newest.source();
+            this.shape = newest.shape();
+            this.lastCaller = newest.caller();
+        }
+
+        private void add(SlowQueryRecord record) {
+            count++;
+            totalMicros += record.durationMicros();
+            maxMicros = Math.max(maxMicros, record.durationMicros());
+        }
+
+        private QueryShapeStats toStats() {
+            return new QueryShapeStats(source, shape, count, totalMicros, maxMicros, totalMicros / count, lastCaller);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.services.configurations.querylog;
+
+import java.time.Instant;
+
+public record SlowQueryRecord(
+        String source,
+        String shape,
+        long durationMicros,
+        long documents,
+        String caller,
+        boolean failed,
+        Instant timestamp
+) {
+}
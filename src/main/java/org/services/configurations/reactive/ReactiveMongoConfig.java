@@ -0,0 +1,66 @@
+package org.services.configurations.reactive;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.gridfs.ReactiveGridFsTemplate;
+
+/**
+ * Reactive Mongo beans for the reactive read server. Spring Boot's reactive Mongo
+ * auto-configuration is excluded in application.yml, so the default servlet deployment does not
+ * open a second connection pool; these beans exist only with {@code products.reactive.enabled}.
+ * The client reuses the servlet client's settings customizers (connection string, command
+ * listeners).
+ */
+@Configuration
+@ConditionalOnProperty(name = "products.reactive.enabled", havingValue = "true")
+public class ReactiveMongoConfig {
+
+    @Bean(destroyMethod = "close")
+    public MongoClient reactiveMongoClient(ObjectProvider<MongoClientSettingsBuilderCustomizer> customizers) {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return MongoClients.create(builder.build());
+    }
+
+    @Bean
+    public ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory(MongoClient reactiveMongoClient,
+                                                                     MongoProperties mongoProperties) {
+        return new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, mongoProperties.getMongoClientDatabase());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory,
+                                                       MongoMappingContext mappingContext,
+                                                       MongoCustomConversions conversions) {
+        return new ReactiveMongoTemplate(reactiveMongoDatabaseFactory, converter(mappingContext, conversions));
+    }
+
+    @Bean
+    public ReactiveGridFsTemplate reactiveGridFsTemplate(ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory,
+                                                         MongoMappingContext mappingContext,
+                                                         MongoCustomConversions conversions) {
+        return new ReactiveGridFsTemplate(reactiveMongoDatabaseFactory, converter(mappingContext, conversions));
+    }
+
+    // Not a bean: a second MongoConverter bean would replace the one Boot builds for MongoTemplate
+    private static MappingMongoConverter converter(MongoMappingContext mappingContext, MongoCustomConversions conversions) {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
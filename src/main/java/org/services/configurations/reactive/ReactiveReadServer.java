@@ -0,0 +1,87 @@
+package org.services.configurations.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs the reactive read routes on a Reactor Netty server next to Tomcat. A few event-loop
+ * threads serve every connection; a slow client only delays its own chunk writes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "products.reactive.enabled", havingValue = "true")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private LoopResources loopResources;
+    private DisposableServer server;
+
+    public ReactiveReadServer(List<RouterFunction<ServerResponse>> routes,
+                              ObjectMapper objectMapper,
+                              @Value("${products.reactive.port:8031}") int port,
+                              @Value("${products.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper, MediaType.APPLICATION_JSON));
+                })
+                .build();
+        RouterFunction<ServerResponse> router = routes.stream()
+                .reduce(RouterFunction::and)
+                .orElseThrow(() -> new IllegalStateException("No reactive routes registered"));
+
+        this.httpHandler = RouterFunctions.toHttpHandler(router, strategies);
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void start() {
+        loopResources = LoopResources.create("reactive-read", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read server started on port {} with {} event-loop threads", server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block(Duration.ofSeconds(10));
+            loopResources = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
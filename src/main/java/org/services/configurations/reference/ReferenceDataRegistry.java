@@ -0,0 +1,72 @@
+package org.services.configurations.reference;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.services.users.model.RoleEntity;
+import org.services.users.repository.RoleRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory copy of small lookup tables that rarely change. Each refresh builds new immutable
+ * maps and publishes them with a single volatile write, so readers never see a half-loaded table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+
+    private final RoleRepository roleRepository;
+
+    private volatile RoleTable roles = new RoleTable(Map.of(), Map.of());
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    @Scheduled(
+            initialDelayString = "${reference-data.refresh-interval-ms:300000}",
+            fixedDelayString = "${reference-data.refresh-interval-ms:300000}")
+    public Map<String, Integer> refresh() {
+        List<RoleEntity> roleEntities = roleRepository.findAll();
+        Map<Long, RoleReference> byId = new HashMap<>();
+        Map<String, RoleReference> byName = new HashMap<>();
+        for (RoleEntity entity : roleEntities) {
+            RoleReference role = new RoleReference(entity.getId(), entity.getName(), entity.getDescription());
+            byId.put(role.id(), role);
+            if (role.name() != null) {
+                byName.putIfAbsent(role.name().toUpperCase(Locale.ROOT), role);
+            }
+        }
+        roles = new RoleTable(Map.copyOf(byId), Map.copyOf(byName));
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("roles", byId.size());
+        log.info("Reference data refreshed: {}", sizes);
+        return sizes;
+    }
+
+    public Optional<RoleReference> findRoleById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(roles.byId().get(id));
+    }
+
+    public Optional<RoleReference> findRoleByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(roles.byName().get(name.toUpperCase(Locale.ROOT)));
+    }
+
+    public Map<String, RoleReference> getRolesByName() {
+        return roles.byName();
+    }
+
+    private record RoleTable(Map<Long, RoleReference> byId, Map<String, RoleReference> byName) {
+    }
+}
@@ -0,0 +1,8 @@
+package org.services.configurations.reference;
+
+public record RoleReference(
+        Long id,
+        String name,
+        String description
+) {
+}
@@ -0,0 +1,108 @@
+package org.services.configurations.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.services.configurations.exceptions.ExceptionResponse;
+import org.services.users.utils.security.AccessTokenClaims;
+import org.services.users.utils.security.AccessTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.services.configurations.exceptions.ExceptionMessages.INVALID_ACCESS_TOKEN_MESSAGE_ES;
+
+@Component
+@RequiredArgsConstructor
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_HEADER = "User-Id";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String PROTECTED_PATH = "/api/v1/orders";
+
+    private final AccessTokenProvider accessTokenProvider;
+    private final ObjectMapper objectMapper;
+
+    @Value("${users.token.required:false}")
+    private boolean tokenRequired;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(PROTECTED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            if (tokenRequired) {
+                reject(response);
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AccessTokenClaims> claims = accessTokenProvider.verify(authorization.substring(BEARER_PREFIX.length()));
+        if (claims.isEmpty()) {
+            reject(response);
+            return;
+        }
+
+        filterChain.doFilter(new AuthenticatedRequest(request, claims.get().userId()), response);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ExceptionResponse(INVALID_ACCESS_TOKEN_MESSAGE_ES, LocalDateTime.now()));
+    }
+
+    private static final class AuthenticatedRequest extends HttpServletRequestWrapper {
+
+        private final String userId;
+
+        private AuthenticatedRequest(HttpServletRequest request, Long userId) {
+            super(request);
+            this.userId = String.valueOf(userId);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return USER_ID_HEADER.equalsIgnoreCase(name) ? userId : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return USER_ID_HEADER.equalsIgnoreCase(name)
+                    ? Collections.enumeration(Set.of(userId))
+                    : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            Set<String> names = new LinkedHashSet<>(Collections.list(super.getHeaderNames()));
+            names.add(USER_ID_HEADER);
+            return Collections.enumeration(names);
+        }
+    }
+}
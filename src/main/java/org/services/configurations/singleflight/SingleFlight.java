@@ -0,0 +1,84 @@
+package org.services.configurations.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent reads: the first caller for an (operation, key) pair runs the
+ * loader, every caller that arrives while it is in flight waits for and shares the same result
+ * (or exception). Nothing is kept once the call completes, so this is not a cache; shared
+ * results must be immutable or safe to hand to several callers.
+ */
+@Component
+public class SingleFlight {
+
+    static final String METRIC_NAME = "singleflight.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaders = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalesced = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, call);
+        if (existing != null) {
+            counter(coalesced, operation, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(leaders, operation, "leader").increment();
+        try {
+            T value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, call);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String operation, String result) {
+        return counters.computeIfAbsent(operation, op -> Counter.builder(METRIC_NAME)
+                .description("Reads that ran the backend call (leader) or shared an in-flight one (coalesced)")
+                .tag("operation", op)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private record FlightKey(String operation, Object key) {
+    }
+}
@@ -0,0 +1,111 @@
+package org.services.configurations.timing;
+
+/**
+ * Thread-local phase recorder behind the {@code Server-Timing} response header. Services wrap a
+ * phase in {@code try (ServerTiming.Span span = ServerTiming.start("insert")) { ... }}; when the
+ * feature is off, or the thread is not serving a request, {@link #start} returns a shared no-op
+ * span and nothing is allocated or timed. Repeated phases (one lookup per order item) are summed.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final int MAX_PHASES = 16;
+    private static final Span NOOP = () -> {
+    };
+    private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+
+    private static volatile boolean enabled;
+
+    private ServerTiming() {
+    }
+
+    public static Span start(String phase) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Recorder recorder = RECORDER.get();
+        return recorder == null ? NOOP : recorder.start(phase);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    static void begin() {
+        RECORDER.set(new Recorder(System.nanoTime()));
+    }
+
+    static Recorder current() {
+        return RECORDER.get();
+    }
+
+    static Recorder end() {
+        Recorder recorder = RECORDER.get();
+        RECORDER.remove();
+        return recorder;
+    }
+
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    static final class Recorder {
+
+        private final long startNanos;
+        private final String[] phases = new String[MAX_PHASES];
+        private final long[] durations = new long[MAX_PHASES];
+        private int count;
+
+        Recorder(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        Span start(String phase) {
+            long phaseStart = System.nanoTime();
+            return () -> add(phase, System.nanoTime() - phaseStart);
+        }
+
+        void add(String phase, long durationNanos) {
+            for (int i = 0; i < count; i++) {
+                if (phases[i].equals(phase)) {
+                    durations[i] += durationNanos;
+                    return;
+                }
+            }
+            if (count < MAX_PHASES) {
+                phases[count] = phase;
+                durations[count++] = durationNanos;
+            }
+        }
+
+        String headerValue() {
+            StringBuilder header = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                appendMetric(header, phases[i], durations[i]);
+                header.append(", ");
+            }
+            appendMetric(header, "total", System.nanoTime() - startNanos);
+            return header.toString();
+        }
+
+        private static void appendMetric(StringBuilder header, String name, long durationNanos) {
+            long micros = durationNanos / 1_000;
+            long fraction = micros % 1_000;
+            header.append(name).append(";dur=").append(micros / 1_000).append('.');
+            if (fraction < 100) {
+                header.append('0');
+            }
+            if (fraction < 10) {
+                header.append('0');
+            }
+            header.append(fraction);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.services.configurations.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public ServerTimingFilter(@Value("${diagnostics.server-timing.enabled:false}") boolean enabled) {
+        ServerTiming.setEnabled(enabled);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !ServerTiming.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServerTiming.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ServerTiming.Recorder recorder = ServerTiming.end();
+            if (log.isDebugEnabled() && recorder != null) {
+                log.debug("{} {} -> {} [{}]", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), recorder.headerValue());
+            }
+        }
+    }
+}
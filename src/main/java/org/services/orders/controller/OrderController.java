@@ -4,12 +4,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.services.orders.dto.request.CreateOrderRequest;
 import org.services.orders.dto.response.CreateOrderResponse;
+import org.services.orders.dto.response.OrderLookupResponse;
 import org.services.orders.dto.response.OrderResponse;
+import org.services.orders.dto.response.UserOrderStatsResponse;
 import org.services.orders.model.OrderEntity;
+import org.services.orders.service.OrderExportService;
 import org.services.orders.service.OrderService;
+import org.services.orders.service.UserOrderStatsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -19,6 +28,8 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final UserOrderStatsService userOrderStatsService;
 
     @PostMapping
     public ResponseEntity<CreateOrderResponse> createOrder(
@@ -43,6 +54,51 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<List<OrderLookupResponse>> getOrdersByIds(
+            @RequestParam List<String> ids,
+            @RequestHeader("User-Id") Long userId) {
+
+        log.info("Fetching {} orders by id for user: {}", ids.size(), userId);
+
+        return ResponseEntity.ok(orderService.getOrdersByIds(ids, userId));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String afterId) {
+
+        log.info("Received order export request from {} to {} as {}", from, to, format);
+
+        OrderExportService.ExportFormat exportFormat = orderExportService.validateExport(from, to, format, afterId);
+        StreamingResponseBody body = out -> orderExportService.exportOrders(from, to, exportFormat, afterId, out);
+        String filename = "orders-" + from.toLocalDate() + "-" + to.toLocalDate() + "." + exportFormat.getExtension() + ".gz";
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .body(body);
+    }
+
+    @GetMapping("/stats/{userId}")
+    public ResponseEntity<UserOrderStatsResponse> getUserOrderStats(@PathVariable Long userId) {
+
+        log.info("Fetching order stats for user: {}", userId);
+
+        return ResponseEntity.ok(userOrderStatsService.getUserStats(userId));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Integer> rebuildUserOrderStats() {
+
+        log.info("Rebuilding user order stats on demand");
+
+        return ResponseEntity.ok(userOrderStatsService.rebuildAll());
+    }
+
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrderById(
             @PathVariable String orderId,
@@ -70,4 +70,26 @@ public class OrderControllerAdvisor {
                         exception.getMessage() ,
                         LocalDateTime.now()));
     }
+
+    @ExceptionHandler(InvalidExportRequestException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidExportRequestException(InvalidExportRequestException exception) {
+        log.error("Invalid export request: {}", exception.getMessage());
+
+        return ResponseEntity
+                .badRequest()
+                .body(new ExceptionResponse(
+                        exception.getMessage(),
+                        LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleBatchLimitExceededException(BatchLimitExceededException exception) {
+        log.error("Invalid batch request: {}", exception.getMessage());
+
+        return ResponseEntity
+                .badRequest()
+                .body(new ExceptionResponse(
+                        exception.getMessage(),
+                        LocalDateTime.now()));
+    }
 } 
\ No newline at end of file
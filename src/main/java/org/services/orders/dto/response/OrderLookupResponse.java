@@ -0,0 +1,15 @@
+package org.services.orders.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderLookupResponse {
+
+    private String id;
+    private boolean found;
+    private OrderResponse order;
+}
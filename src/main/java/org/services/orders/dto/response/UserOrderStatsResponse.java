@@ -0,0 +1,19 @@
+package org.services.orders.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserOrderStatsResponse {
+
+    private Long userId;
+    private long orderCount;
+    private BigDecimal totalSpent;
+    private LocalDateTime lastOrderAt;
+}
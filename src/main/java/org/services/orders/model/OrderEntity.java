@@ -24,6 +24,7 @@ public class OrderEntity {
     private ShippingAddress shippingAddress;
     private String paymentMethod;
     private String trackingCode;
+    private List<PendingOrderEvent> pendingEvents;
 
     public enum OrderStatus {
         PENDING("pendiente"),
@@ -0,0 +1,32 @@
+package org.services.orders.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@Document(collection = "order_events")
+public class OrderEventEntity {
+
+    @Id
+    private String id;
+
+    private String sourceEventId;
+    private OrderEventType type;
+    private String orderId;
+    private Long userId;
+    private OrderEntity.OrderStatus status;
+    private OrderEntity.OrderStatus previousStatus;
+    private BigDecimal total;
+    private LocalDateTime createdAt;
+
+    public enum OrderEventType {
+        ORDER_CREATED,
+        ORDER_STATUS_CHANGED
+    }
+}
@@ -0,0 +1,22 @@
+package org.services.orders.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "order_event_offsets")
+public class OrderEventOffset {
+
+    @Id
+    private String handlerName;
+
+    private String lastEventId;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package org.services.orders.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Evento pendiente embebido en el pedido; OrderOutboxRelay lo mueve a order_events
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PendingOrderEvent {
+
+    private String eventId;
+    private OrderEventEntity.OrderEventType type;
+    private OrderEntity.OrderStatus status;
+    private OrderEntity.OrderStatus previousStatus;
+    private BigDecimal total;
+    private LocalDateTime createdAt;
+}
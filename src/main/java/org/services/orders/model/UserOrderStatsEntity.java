@@ -0,0 +1,30 @@
+package org.services.orders.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "user_order_stats")
+public class UserOrderStatsEntity {
+
+    @Id
+    private Long userId;
+
+    private long orderCount;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal totalSpent;
+
+    private LocalDateTime lastOrderAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,9 @@
+package org.services.orders.repository;
+
+import org.services.orders.model.OrderEventEntity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderEventRepository extends MongoRepository<OrderEventEntity, String> {
+}
@@ -4,17 +4,21 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends MongoRepository<OrderEntity, String> {
 
     List<OrderEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    List<OrderEntity> findByIdInAndUserId(Collection<String> ids, Long userId);
+
     @Query("{'userId': ?0, 'status': ?1}")
     List<OrderEntity> findByUserIdAndStatus(Long userId, OrderEntity.OrderStatus status);
 
-    List<OrderEntity> findByStatusOrderByCreatedAtDesc(OrderEntity.OrderStatus status);
+    Stream<OrderEntity> streamByStatusOrderByCreatedAtDesc(OrderEntity.OrderStatus status);
 
     boolean existsByTrackingCode(String trackingCode);
 }
@@ -0,0 +1,9 @@
+package org.services.orders.repository;
+
+import org.services.orders.model.UserOrderStatsEntity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserOrderStatsRepository extends MongoRepository<UserOrderStatsEntity, Long> {
+}
@@ -0,0 +1,143 @@
+package org.services.orders.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.services.orders.model.OrderEventEntity;
+import org.services.orders.model.OrderEventOffset;
+import org.services.orders.repository.OrderEventOffsetRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventDispatcher {
+
+    private static final String INITIAL_OFFSET = "000000000000000000000000";
+
+    private final MongoTemplate mongoTemplate;
+    private final OrderEventOffsetRepository offsetRepository;
+    private final OrderEventLease lease;
+    private final List<OrderEventHandler> handlers;
+    private final Set<String> runningHandlers = ConcurrentHashMap.newKeySet();
+
+    @Value("${orders.events.batch-size:100}")
+    private int batchSize;
+
+    @Value("${orders.events.settle-delay-ms:1000}")
+    private long settleDelayMs;
+
+    @Value("${orders.events.dispatcher-threads:4}")
+    private int dispatcherThreads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        // runningHandlers ya limita a una tarea por handler; con hilos virtuales no hace falta un pool acotado
+        executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("order-event-dispatcher-", 0).factory())
+                : Executors.newFixedThreadPool(dispatcherThreads);
+        log.info("Order event dispatcher started with {} handlers", handlers.size());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${orders.events.poll-interval-ms:500}")
+    public void dispatchPendingEvents() {
+        for (OrderEventHandler handler : handlers) {
+            if (!runningHandlers.add(handler.name())) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        drain(handler);
+                    } finally {
+                        runningHandlers.remove(handler.name());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runningHandlers.remove(handler.name());
+            }
+        }
+    }
+
+    /*
+     * runningHandlers only prevents overlapping drains on this node; the lease keeps other
+     * nodes from delivering the same events with the same shared offset.
+     */
+    void drain(OrderEventHandler handler) {
+        String leaseName = "handler:" + handler.name();
+        if (!lease.tryAcquire(leaseName)) {
+            return;
+        }
+
+        OrderEventOffset offset = offsetRepository.findById(handler.name())
+                .orElseGet(() -> new OrderEventOffset(handler.name(), INITIAL_OFFSET, null));
+
+        List<OrderEventEntity> events;
+        do {
+            events = mongoTemplate.find(pendingEventsQuery(offset.getLastEventId()), OrderEventEntity.class);
+            String lastDelivered = offset.getLastEventId();
+
+            for (OrderEventEntity event : events) {
+                try {
+                    handler.handle(event);
+                    lastDelivered = event.getId();
+                } catch (RuntimeException e) {
+                    log.error("Order event handler {} failed on event {}: {}",
+                            handler.name(), event.getId(), e.getMessage());
+                    saveOffset(offset, lastDelivered);
+                    return;
+                }
+            }
+            saveOffset(offset, lastDelivered);
+        } while (events.size() == batchSize && lease.tryAcquire(leaseName));
+    }
+
+    /*
+     * ObjectIds are only ordered by second and may be assigned slightly out of order by
+     * concurrent writers, so events younger than the settle delay are left for the next poll
+     * instead of risking an offset that jumps over an insert still in flight.
+     */
+    private Query pendingEventsQuery(String lastEventId) {
+        long upperSeconds = (System.currentTimeMillis() - settleDelayMs) / 1000;
+        ObjectId upperBound = new ObjectId(String.format("%08x%016x", upperSeconds, 0L));
+
+        return Query.query(Criteria.where("_id").gt(new ObjectId(lastEventId)).lt(upperBound))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(batchSize);
+    }
+
+    private void saveOffset(OrderEventOffset offset, String lastDelivered) {
+        if (lastDelivered.equals(offset.getLastEventId())) {
+            return;
+        }
+        offset.setLastEventId(lastDelivered);
+        offset.setUpdatedAt(LocalDateTime.now());
+        offsetRepository.save(offset);
+    }
+}
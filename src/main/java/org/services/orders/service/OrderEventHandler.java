@@ -0,0 +1,15 @@
+package org.services.orders.service;
+
+import org.services.orders.model.OrderEventEntity;
+
+/**
+ * In-process consumer of the order outbox. Every handler keeps its own offset,
+ * so an event may be delivered again after a failure or restart and
+ * implementations must be idempotent.
+ */
+public interface OrderEventHandler {
+
+    String name();
+
+    void handle(OrderEventEntity event);
+}
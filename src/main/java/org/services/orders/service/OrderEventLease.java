@@ -0,0 +1,51 @@
+package org.services.orders.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.UUID;
+
+// Lease compartido entre nodos: solo uno reenvía el outbox y solo uno drena cada handler.
+// Se renueva en cada lote; si el dueño deja de renovarlo, caduca tras orders.events.lease-ms
+@Slf4j
+@Component
+public class OrderEventLease {
+
+    static final String COLLECTION = "order_event_leases";
+
+    private final MongoTemplate mongoTemplate;
+    private final long leaseMs;
+    private final String owner = UUID.randomUUID().toString();
+
+    public OrderEventLease(MongoTemplate mongoTemplate,
+                           @Value("${orders.events.lease-ms:30000}") long leaseMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseMs = leaseMs;
+    }
+
+    // Adquiere o renueva el lease; false mientras lo tenga otro nodo
+    public boolean tryAcquire(String name) {
+        long now = System.currentTimeMillis();
+        Query query = Query.query(Criteria.where("_id").is(name)
+                .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(new Date(now))));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("expiresAt", new Date(now + leaseMs));
+
+        try {
+            // Si otro nodo tiene el lease vigente, el upsert intenta insertar el mismo _id y falla
+            mongoTemplate.upsert(query, update, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("Lease {} is held by another node", name);
+            return false;
+        }
+    }
+}
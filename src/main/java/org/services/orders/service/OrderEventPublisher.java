@@ -0,0 +1,38 @@
+package org.services.orders.service;
+
+import org.bson.types.ObjectId;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.OrderEventEntity;
+import org.services.orders.model.PendingOrderEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+// Los eventos se añaden al propio pedido antes de guardarlo: se persisten en la misma escritura
+@Component
+public class OrderEventPublisher {
+
+    public void stageOrderCreated(OrderEntity order) {
+        stage(OrderEventEntity.OrderEventType.ORDER_CREATED, order, null);
+    }
+
+    public void stageStatusChanged(OrderEntity order, OrderEntity.OrderStatus previousStatus) {
+        stage(OrderEventEntity.OrderEventType.ORDER_STATUS_CHANGED, order, previousStatus);
+    }
+
+    private void stage(OrderEventEntity.OrderEventType type,
+                       OrderEntity order,
+                       OrderEntity.OrderStatus previousStatus) {
+        if (order.getPendingEvents() == null) {
+            order.setPendingEvents(new ArrayList<>());
+        }
+        order.getPendingEvents().add(new PendingOrderEvent(
+                new ObjectId().toHexString(),
+                type,
+                order.getStatus(),
+                previousStatus,
+                order.getTotal(),
+                LocalDateTime.now()));
+    }
+}
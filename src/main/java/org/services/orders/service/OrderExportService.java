@@ -0,0 +1,250 @@
+package org.services.orders.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.OrderItem;
+import org.services.orders.utils.exceptions.InvalidExportRequestException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.services.configurations.exceptions.ExceptionMessages.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CURSOR_BATCH_SIZE = 1000;
+    private static final String[] COLUMNS = {
+            "orderId", "createdAt", "userId", "status", "paymentMethod", "trackingCode", "orderTotal",
+            "productId", "productName", "quantity", "unitPrice", "subtotal"
+    };
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ExportFormat validateExport(LocalDateTime from, LocalDateTime to, String format, String afterId) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidExportRequestException(EXPORT_INVALID_RANGE);
+        }
+
+        if (afterId != null && !ObjectId.isValid(afterId)) {
+            throw new InvalidExportRequestException(EXPORT_INVALID_CURSOR + afterId);
+        }
+
+        if (format == null) {
+            throw new InvalidExportRequestException(EXPORT_INVALID_FORMAT + format);
+        }
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidExportRequestException(EXPORT_INVALID_FORMAT + format);
+        }
+    }
+
+    public void exportOrders(LocalDateTime from,
+                             LocalDateTime to,
+                             ExportFormat format,
+                             String afterId,
+                             OutputStream out) throws IOException {
+        log.info("Exporting orders from {} to {} as {} after id {}", from, to, format, afterId);
+
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rows = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        long rowCount = 0;
+
+        try (Stream<OrderEntity> orders = mongoTemplate.stream(buildExportQuery(from, to, afterId), OrderEntity.class)) {
+            rows.writeHeader();
+            Iterator<OrderEntity> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                OrderEntity order = iterator.next();
+                if (order.getItems() == null) {
+                    continue;
+                }
+                for (OrderItem item : order.getItems()) {
+                    rows.writeRow(order, item);
+                    rowCount++;
+                }
+            }
+        }
+
+        rows.flush();
+        writer.flush();
+        gzip.finish();
+
+        log.info("Exported {} order rows from {} to {}", rowCount, from, to);
+    }
+
+    private Query buildExportQuery(LocalDateTime from, LocalDateTime to, String afterId) {
+        Criteria criteria = Criteria.where("createdAt").gte(from).lt(to);
+        if (afterId != null) {
+            criteria = criteria.and("_id").gt(new ObjectId(afterId));
+        }
+
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .cursorBatchSize(CURSOR_BATCH_SIZE);
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof OrderEntity.OrderStatus status) {
+            return status.name();
+        }
+        return value.toString();
+    }
+
+    public enum ExportFormat {
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String extension;
+
+        ExportFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(OrderEntity order, OrderItem item) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writeLine((Object[]) COLUMNS);
+        }
+
+        @Override
+        public void writeRow(OrderEntity order, OrderItem item) throws IOException {
+            writeLine(order.getId(), order.getCreatedAt(), order.getUserId(), order.getStatus(),
+                    order.getPaymentMethod(), order.getTrackingCode(), order.getTotal(),
+                    item.getProductId(), item.getProductName(), item.getQuantity(),
+                    item.getUnitPrice(), item.getSubtotal());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(text(values[i]));
+            }
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(OrderEntity order, OrderItem item) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(COLUMNS[0], order.getId());
+            generator.writeStringField(COLUMNS[1], text(order.getCreatedAt()));
+            writeNumber(COLUMNS[2], order.getUserId());
+            generator.writeStringField(COLUMNS[3], text(order.getStatus()));
+            generator.writeStringField(COLUMNS[4], order.getPaymentMethod());
+            generator.writeStringField(COLUMNS[5], order.getTrackingCode());
+            writeDecimal(COLUMNS[6], order.getTotal());
+            generator.writeStringField(COLUMNS[7], item.getProductId());
+            generator.writeStringField(COLUMNS[8], item.getProductName());
+            writeNumber(COLUMNS[9], item.getQuantity());
+            writeDecimal(COLUMNS[10], item.getUnitPrice());
+            writeDecimal(COLUMNS[11], item.getSubtotal());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        private void writeNumber(String field, Number value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value.longValue());
+            }
+        }
+
+        private void writeDecimal(String field, BigDecimal value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.services.orders.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.OrderEventEntity;
+import org.services.orders.model.PendingOrderEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Copia los eventos pendientes de cada pedido a order_events. El upsert por sourceEventId hace que
+// un fallo entre la copia y el $pull solo repita la copia, sin duplicar el evento
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    static final String LEASE_NAME = "outbox-relay";
+
+    private final MongoTemplate mongoTemplate;
+    private final OrderEventLease lease;
+    private final int batchSize;
+
+    public OrderOutboxRelay(MongoTemplate mongoTemplate,
+                            OrderEventLease lease,
+                            @Value("${orders.events.batch-size:100}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.lease = lease;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        mongoTemplate.indexOps(OrderEntity.class)
+                .ensureIndex(new Index("pendingEvents.eventId", Sort.Direction.ASC).sparse());
+        mongoTemplate.indexOps(OrderEventEntity.class)
+                .ensureIndex(new Index("sourceEventId", Sort.Direction.ASC).unique().sparse());
+    }
+
+    @Scheduled(fixedDelayString = "${orders.events.poll-interval-ms:500}")
+    public void relayPendingEvents() {
+        List<OrderEntity> orders;
+        do {
+            if (!lease.tryAcquire(LEASE_NAME)) {
+                return;
+            }
+            orders = mongoTemplate.find(pendingOrdersQuery(), OrderEntity.class);
+            for (OrderEntity order : orders) {
+                relay(order);
+            }
+        } while (orders.size() == batchSize);
+    }
+
+    void relay(OrderEntity order) {
+        List<String> relayed = new ArrayList<>(order.getPendingEvents().size());
+        for (PendingOrderEvent pending : order.getPendingEvents()) {
+            Update insert = new Update()
+                    .setOnInsert("type", pending.getType())
+                    .setOnInsert("orderId", order.getId())
+                    .setOnInsert("userId", order.getUserId())
+                    .setOnInsert("status", pending.getStatus())
+                    .setOnInsert("previousStatus", pending.getPreviousStatus())
+                    .setOnInsert("total", pending.getTotal())
+                    .setOnInsert("createdAt", pending.getCreatedAt());
+            mongoTemplate.upsert(Query.query(Criteria.where("sourceEventId").is(pending.getEventId())),
+                    insert, OrderEventEntity.class);
+            relayed.add(pending.getEventId());
+        }
+
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(order.getId())),
+                new Update().pull("pendingEvents", new Document("eventId", new Document("$in", relayed))),
+                OrderEntity.class);
+        log.debug("Relayed {} events of order {}", relayed.size(), order.getId());
+    }
+
+    private Query pendingOrdersQuery() {
+        Query query = Query.query(Criteria.where("pendingEvents.eventId").exists(true)).limit(batchSize);
+        query.fields().include("userId", "pendingEvents");
+        return query;
+    }
+}
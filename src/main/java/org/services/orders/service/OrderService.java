@@ -3,8 +3,10 @@ package org.services.orders.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.services.configurations.exceptions.ExceptionMessages;
+import org.services.configurations.timing.ServerTiming;
 import org.services.orders.dto.request.CreateOrderRequest;
 import org.services.orders.dto.response.CreateOrderResponse;
+import org.services.orders.dto.response.OrderLookupResponse;
 import org.services.orders.dto.response.OrderResponse;
 import org.services.orders.utils.exceptions.*;
 import org.services.orders.model.OrderEntity;
@@ -18,9 +20,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.services.configurations.exceptions.ExceptionMessages.*;
 
@@ -29,9 +38,13 @@ import static org.services.configurations.exceptions.ExceptionMessages.*;
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int MAX_BATCH_IDS = 100;
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final TrackingCodeGenerator trackingCodeGenerator;
+    private final OrderEventPublisher orderEventPublisher;
+    private final UserOrderStatsService userOrderStatsService;
 
     @Transactional
     public CreateOrderResponse createOrder(CreateOrderRequest request, Long userId) {
@@ -53,7 +66,10 @@ public class OrderService {
         }
 
 
-        List<OrderItem> orderItems = validateAndCreateOrderItems(request.getItems());
+        List<OrderItem> orderItems;
+        try (ServerTiming.Span span = ServerTiming.start("product-lookup")) {
+            orderItems = validateAndCreateOrderItems(request.getItems());
+        }
         BigDecimal total = calculateTotal(orderItems);
 
 
@@ -66,10 +82,20 @@ public class OrderService {
         order.setUpdatedAt(LocalDateTime.now());
         order.setShippingAddress(request.getShippingAddress());
         order.setPaymentMethod(request.getPaymentMethod());
-        order.setTrackingCode(generateUniqueTrackingCode());
+        try (ServerTiming.Span span = ServerTiming.start("tracking-code")) {
+            order.setTrackingCode(generateUniqueTrackingCode());
+        }
 
 
-        OrderEntity savedOrder = orderRepository.save(order);
+        // El evento viaja dentro del documento del pedido: un único save escribe ambos
+        orderEventPublisher.stageOrderCreated(order);
+        OrderEntity savedOrder;
+        try (ServerTiming.Span span = ServerTiming.start("insert")) {
+            savedOrder = orderRepository.save(order);
+        }
+        try (ServerTiming.Span span = ServerTiming.start("stats")) {
+            userOrderStatsService.recordOrderCreated(savedOrder);
+        }
 
         log.info("Order created successfully with ID: {}", savedOrder.getId());
 
@@ -111,14 +137,38 @@ public class OrderService {
         return mapToOrderResponse(orderEntity);
     }
 
+    public List<OrderLookupResponse> getOrdersByIds(List<String> orderIds, Long userId) {
+        log.info("Fetching {} orders by id for user: {}", orderIds == null ? 0 : orderIds.size(), userId);
+
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new BatchLimitExceededException(BATCH_IDS_REQUIRED);
+        }
+
+        if (orderIds.size() > MAX_BATCH_IDS) {
+            throw new BatchLimitExceededException(BATCH_LIMIT_EXCEEDED + MAX_BATCH_IDS);
+        }
+
+        Map<String, OrderEntity> ordersById = orderRepository.findByIdInAndUserId(new LinkedHashSet<>(orderIds), userId)
+                .stream()
+                .collect(Collectors.toMap(OrderEntity::getId, Function.identity()));
+
+        return orderIds.stream()
+                .map(id -> {
+                    OrderEntity order = ordersById.get(id);
+                    return order == null
+                            ? new OrderLookupResponse(id, false, null)
+                            : new OrderLookupResponse(id, true, mapToOrderResponse(order));
+                })
+                .collect(Collectors.toList());
+    }
+
     public List<OrderResponse> getOrdersByStatus(OrderEntity.OrderStatus status) {
         log.info("Fetching orders with status: {}", status);
         
-        List<OrderEntity> orders = orderRepository.findByStatusOrderByCreatedAtDesc(status);
-        
-        return orders.stream()
-                .map(this::mapToOrderResponse)
-                .collect(Collectors.toList());
+        // Se recorre el cursor: cada entidad se convierte y se descarta, sin una segunda lista intermedia
+        try (Stream<OrderEntity> orders = orderRepository.streamByStatusOrderByCreatedAtDesc(status)) {
+            return orders.map(this::mapToOrderResponse).toList();
+        }
     }
 
     @Transactional
@@ -132,31 +182,37 @@ public class OrderService {
         }
         
         OrderEntity order = orderOpt.get();
+        OrderEntity.OrderStatus previousStatus = order.getStatus();
         order.setStatus(newStatus);
         order.setUpdatedAt(LocalDateTime.now());
-        
+        orderEventPublisher.stageStatusChanged(order, previousStatus);
+
         OrderEntity updatedOrder = orderRepository.save(order);
-        
+        userOrderStatsService.recordStatusChange(updatedOrder, previousStatus);
 
         return mapToOrderResponse(updatedOrder);
     }
 
     private List<OrderItem> validateAndCreateOrderItems(List<CreateOrderRequest.OrderItemRequest> itemRequests) {
+        Set<String> productIds = itemRequests.stream()
+                .map(CreateOrderRequest.OrderItemRequest::getProductId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, ProductEntity> productsById = productRepository.findAllById(productIds)
+                .stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
         return itemRequests.stream()
-                .map(this::validateAndCreateOrderItem)
+                .map(itemRequest -> validateAndCreateOrderItem(itemRequest, productsById.get(itemRequest.getProductId())))
                 .collect(Collectors.toList());
     }
 
-    private OrderItem validateAndCreateOrderItem(CreateOrderRequest.OrderItemRequest itemRequest) {
+    private OrderItem validateAndCreateOrderItem(CreateOrderRequest.OrderItemRequest itemRequest, ProductEntity product) {
 
-        Optional<ProductEntity> productOpt = productRepository.findById(itemRequest.getProductId());
-        
-        if (productOpt.isEmpty()) {
+        if (product == null) {
             throw new ProductNotFoundException( PRODUCT_NOT_FOUND_MESSAGE_ES + itemRequest.getProductId());
         }
         
-        ProductEntity product = productOpt.get();
-        
 
         if (itemRequest.getQuantity() == null || itemRequest.getQuantity() <= 0) {
             throw new EmptyOrderException(ORDER_EMPTY);
@@ -208,9 +264,10 @@ public class OrderService {
         response.setPaymentMethod(order.getPaymentMethod());
         response.setTrackingCode(order.getTrackingCode());
 
-        List<OrderResponse.OrderItemResponse> itemResponses = order.getItems().stream()
-                .map(this::mapToOrderItemResponse)
-                .collect(Collectors.toList());
+        List<OrderResponse.OrderItemResponse> itemResponses = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            itemResponses.add(mapToOrderItemResponse(item));
+        }
         response.setItems(itemResponses);
         
         return response;
@@ -0,0 +1,175 @@
+package org.services.orders.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.services.orders.dto.response.UserOrderStatsResponse;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.UserOrderStatsEntity;
+import org.services.orders.repository.UserOrderStatsRepository;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserOrderStatsService {
+
+    private static final int REBUILD_WRITE_BATCH = 1000;
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final UserOrderStatsRepository userOrderStatsRepository;
+
+    public UserOrderStatsResponse getUserStats(Long userId) {
+        return userOrderStatsRepository.findById(userId)
+                .map(stats -> new UserOrderStatsResponse(
+                        stats.getUserId(),
+                        stats.getOrderCount(),
+                        stats.getTotalSpent(),
+                        stats.getLastOrderAt()))
+                .orElseGet(() -> new UserOrderStatsResponse(userId, 0, BigDecimal.ZERO, null));
+    }
+
+    public void recordOrderCreated(OrderEntity order) {
+        Update update = new Update()
+                .inc("orderCount", 1)
+                .inc("totalSpent", new Decimal128(order.getTotal()))
+                .max("lastOrderAt", order.getCreatedAt())
+                .set("updatedAt", LocalDateTime.now());
+
+        applyUpdate(order.getUserId(), update);
+    }
+
+    public void recordStatusChange(OrderEntity order, OrderEntity.OrderStatus previousStatus) {
+        boolean wasCancelled = previousStatus == OrderEntity.OrderStatus.CANCELLED;
+        boolean isCancelled = order.getStatus() == OrderEntity.OrderStatus.CANCELLED;
+
+        if (wasCancelled == isCancelled) {
+            return;
+        }
+
+        int sign = isCancelled ? -1 : 1;
+        BigDecimal amount = isCancelled ? order.getTotal().negate() : order.getTotal();
+        Update update = new Update()
+                .inc("orderCount", sign)
+                .inc("totalSpent", new Decimal128(amount))
+                .set("updatedAt", LocalDateTime.now());
+
+        applyUpdate(order.getUserId(), update);
+    }
+
+    // Recalcula los agregados sin perder los $inc concurrentes: solo se sobrescriben documentos que nadie
+    // tocó desde el inicio, y los usuarios con pedidos escritos durante el recálculo quedan para el siguiente
+    @Scheduled(cron = "${orders.stats.rebuild-cron:0 0 3 * * *}")
+    public int rebuildAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        log.info("Rebuilding user order stats");
+
+        Query query = new Query();
+        query.fields().include("userId", "total", "createdAt", "updatedAt", "status");
+
+        Map<Long, UserOrderStatsEntity> statsByUser = new HashMap<>();
+        Set<Long> touchedUsers = new HashSet<>();
+        try (Stream<OrderEntity> orders = mongoTemplate.stream(query, OrderEntity.class)) {
+            orders.forEach(order -> accumulate(statsByUser, touchedUsers, order, startedAt));
+        }
+        touchedUsers.forEach(statsByUser::remove);
+
+        int written = 0;
+        List<UserOrderStatsEntity> batch = new ArrayList<>(REBUILD_WRITE_BATCH);
+        for (UserOrderStatsEntity stats : statsByUser.values()) {
+            batch.add(stats);
+            if (batch.size() == REBUILD_WRITE_BATCH) {
+                written += writeIfUntouched(batch, startedAt);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += writeIfUntouched(batch, startedAt);
+        }
+
+        // Lo que sigue con updatedAt anterior al inicio no se reescribió ni se tocó: el usuario ya no tiene pedidos
+        Criteria stale = Criteria.where("updatedAt").lt(startedAt);
+        if (!touchedUsers.isEmpty()) {
+            stale = stale.and("_id").nin(touchedUsers);
+        }
+        long deleted = mongoTemplate.remove(Query.query(stale), UserOrderStatsEntity.class).getDeletedCount();
+
+        log.info("Rebuilt order stats for {} users ({} skipped as concurrently updated, {} stale removed)",
+                written, statsByUser.size() - written + touchedUsers.size(), deleted);
+        return written;
+    }
+
+    private void accumulate(Map<Long, UserOrderStatsEntity> statsByUser, Set<Long> touchedUsers,
+                            OrderEntity order, LocalDateTime startedAt) {
+        if (order.getUserId() == null) {
+            return;
+        }
+        if (order.getUpdatedAt() != null && !order.getUpdatedAt().isBefore(startedAt)) {
+            touchedUsers.add(order.getUserId());
+            return;
+        }
+        if (order.getStatus() == OrderEntity.OrderStatus.CANCELLED) {
+            return;
+        }
+
+        UserOrderStatsEntity stats = statsByUser.computeIfAbsent(order.getUserId(),
+                userId -> new UserOrderStatsEntity(userId, 0, BigDecimal.ZERO, null, null));
+        stats.setOrderCount(stats.getOrderCount() + 1);
+        if (order.getTotal() != null) {
+            stats.setTotalSpent(stats.getTotalSpent().add(order.getTotal()));
+        }
+        if (stats.getLastOrderAt() == null
+                || (order.getCreatedAt() != null && order.getCreatedAt().isAfter(stats.getLastOrderAt()))) {
+            stats.setLastOrderAt(order.getCreatedAt());
+        }
+    }
+
+    // Si un $inc llegó después del inicio, el filtro no coincide, el upsert choca por _id y se conserva el valor
+    private int writeIfUntouched(List<UserOrderStatsEntity> batch, LocalDateTime startedAt) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserOrderStatsEntity.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (UserOrderStatsEntity stats : batch) {
+            Query untouched = Query.query(Criteria.where("_id").is(stats.getUserId())
+                    .orOperator(Criteria.where("updatedAt").lt(startedAt), Criteria.where("updatedAt").exists(false)));
+            Update update = new Update()
+                    .set("orderCount", stats.getOrderCount())
+                    .set("totalSpent", new Decimal128(stats.getTotalSpent()))
+                    .set("lastOrderAt", stats.getLastOrderAt())
+                    .set("updatedAt", now);
+            bulk.upsert(untouched, update);
+        }
+
+        try {
+            bulk.execute();
+            return batch.size();
+        } catch (BulkOperationException e) {
+            long skipped = e.getErrors().stream().filter(error -> error.getCode() == DUPLICATE_KEY_CODE).count();
+            if (skipped != e.getErrors().size()) {
+                throw e;
+            }
+            return batch.size() - (int) skipped;
+        }
+    }
+
+    private void applyUpdate(Long userId, Update update) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(userId)), update, UserOrderStatsEntity.class);
+    }
+}
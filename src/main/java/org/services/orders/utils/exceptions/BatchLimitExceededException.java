@@ -0,0 +1,7 @@
+package org.services.orders.utils.exceptions;
+
+public class BatchLimitExceededException extends RuntimeException {
+    public BatchLimitExceededException(String message) {
+        super(message);
+    }
+}
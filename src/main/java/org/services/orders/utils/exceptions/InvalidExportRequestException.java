@@ -0,0 +1,7 @@
+package org.services.orders.utils.exceptions;
+
+public class InvalidExportRequestException extends RuntimeException {
+    public InvalidExportRequestException(String message) {
+        super(message);
+    }
+}
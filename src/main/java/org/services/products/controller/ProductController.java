@@ -3,10 +3,16 @@ package org.services.products.controller;
 import lombok.RequiredArgsConstructor;
 import org.services.configurations.exceptions.ExceptionMessages;
 import org.services.products.dto.request.ProductRequest;
+import org.services.products.dto.response.ProductLookupResponse;
 import org.services.products.dto.response.ProductResponse;
+import org.services.products.dto.response.ProductSearchResponse;
+import org.services.products.dto.response.ProductSuggestionResponse;
 import org.services.products.dto.response.SaveProductResponse;
 import org.services.products.service.ProductService;
 import org.services.products.service.GridFSService;
+import org.services.products.utils.cache.ProductCatalogCache;
+import org.services.products.utils.search.ProductAutocompleteIndex;
+import org.services.products.utils.search.ProductSearchIndex;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -14,17 +20,22 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.services.products.utils.page.PageResult;
 
 import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/product")
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final ProductService productService;
     private final GridFSService gridFSService;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
 
     @PostMapping(consumes = "multipart/form-data")
     public ResponseEntity<SaveProductResponse> createProduct(
@@ -46,10 +57,57 @@ public class ProductController {
     }
 
     @GetMapping
-    public ResponseEntity<PageResult<ProductResponse>> getAllProducts(
+    public ResponseEntity<byte[]> getAllProducts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "5") int size) {
-        return ResponseEntity.ok(productService.getAllProducts(page, size));
+            @RequestParam(defaultValue = "5") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ProductCatalogCache.CachedPage cachedPage = productCatalogCache.getPage(page, size,
+                () -> productService.getAllProducts(page, size));
+        if (cachedPage.etag() == null) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(cachedPage.json());
+        }
+
+        boolean gzipped = cachedPage.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (cachedPage.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cachedPage.etag(gzipped))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(cachedPage.etag(gzipped))
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cachedPage.gzip());
+        }
+        return response.body(cachedPage.json());
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<List<ProductLookupResponse>> getProductsByIds(@RequestParam List<String> ids) {
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productSearchIndex.search(q, Math.min(limit, MAX_SEARCH_LIMIT)));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProductSuggestionResponse>> autocompleteProducts(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productAutocompleteIndex.suggest(q, limit));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable String id) {
+        return ResponseEntity.ok(productService.getProductById(id));
     }
 
     @GetMapping("/image/{imageId}")
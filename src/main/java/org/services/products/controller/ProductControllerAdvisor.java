@@ -3,6 +3,8 @@ package org.services.products.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.services.configurations.exceptions.ExceptionResponse;
 import org.services.configurations.exceptions.ExceptionMessages;
+import org.services.products.utils.exceptions.BatchLimitExceededException;
+import org.services.products.utils.exceptions.ImageNotFoundException;
 import org.services.products.utils.exceptions.ImageUploadException;
 import org.services.products.utils.exceptions.InvalidImageFormatException;
 import org.services.products.utils.exceptions.ProductNotFoundException;
@@ -53,5 +55,23 @@ public class ProductControllerAdvisor {
                 LocalDateTime.now()));
     }
 
+    @ExceptionHandler(ImageNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleImageNotFoundException(
+            ImageNotFoundException exception) {
 
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ExceptionResponse(exception.getMessage(),
+                LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(BatchLimitExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleBatchLimitExceededException(
+            BatchLimitExceededException exception) {
+
+        log.error("Invalid batch request: {}", exception.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ExceptionResponse(exception.getMessage(),
+                LocalDateTime.now()));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,65 @@
+package org.services.products.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.services.configurations.exceptions.ExceptionResponse;
+import org.services.products.service.ReactiveProductService;
+import org.services.products.utils.exceptions.ImageNotFoundException;
+import org.services.products.utils.exceptions.ProductNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.services.configurations.exceptions.ExceptionMessages.INVALID_PARAMETER_TYPE_MESSAGE_ES;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "products.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProductHandler {
+
+    private final ReactiveProductService reactiveProductService;
+
+    public Mono<ServerResponse> getAllProducts(ServerRequest request) {
+        int page;
+        int size;
+        try {
+            page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+            size = request.queryParam("size").map(Integer::parseInt).orElse(5);
+        } catch (NumberFormatException e) {
+            return error(HttpStatus.BAD_REQUEST, new IllegalArgumentException(INVALID_PARAMETER_TYPE_MESSAGE_ES, e));
+        }
+        return reactiveProductService.getAllProducts(page, size)
+                .flatMap(result -> ServerResponse.ok().bodyValue(result));
+    }
+
+    public Mono<ServerResponse> getProductById(ServerRequest request) {
+        return reactiveProductService.getProductById(request.pathVariable("id"))
+                .flatMap(product -> ServerResponse.ok().bodyValue(product))
+                .onErrorResume(ProductNotFoundException.class, e -> error(HttpStatus.CONFLICT, e));
+    }
+
+    public Mono<ServerResponse> getImage(ServerRequest request) {
+        return reactiveProductService.getImage(request.pathVariable("imageId"))
+                .flatMap(image -> ServerResponse.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=image")
+                        .contentType(image.contentType())
+                        .contentLength(image.length())
+                        .body(BodyInserters.fromDataBuffers(image.content())))
+                .onErrorResume(ImageNotFoundException.class, e -> error(HttpStatus.NOT_FOUND, e));
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, RuntimeException exception) {
+        log.debug("Reactive product read failed: {}", exception.getMessage());
+        return ServerResponse.status(status)
+                .bodyValue(new ExceptionResponse(exception.getMessage(), LocalDateTime.now()));
+    }
+}
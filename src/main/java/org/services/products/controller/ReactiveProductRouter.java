@@ -0,0 +1,27 @@
+package org.services.products.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Read-only product routes served by {@code ReactiveReadServer} on its own port; the MVC
+ * {@link ProductController} keeps serving every endpoint on the main port.
+ */
+@Configuration
+@ConditionalOnProperty(name = "products.reactive.enabled", havingValue = "true")
+public class ReactiveProductRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveProductRoutes(ReactiveProductHandler handler) {
+        return RouterFunctions.route()
+                .path("/api/v1/product", builder -> builder
+                        .GET("", handler::getAllProducts)
+                        .GET("/image/{imageId}", handler::getImage)
+                        .GET("/{id}", handler::getProductById))
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package org.services.products.dto.response;
+
+public record ProductLookupResponse(
+        String id,
+        boolean found,
+        ProductResponse product
+) {
+}
@@ -0,0 +1,13 @@
+package org.services.products.dto.response;
+
+import java.util.List;
+
+public record ProductSearchResponse(
+        String query,
+        int totalMatches,
+        List<Hit> hits
+) {
+
+    public record Hit(ProductResponse product, double score) {
+    }
+}
@@ -0,0 +1,8 @@
+package org.services.products.dto.response;
+
+public record ProductSuggestionResponse(
+        String id,
+        String name,
+        long popularity
+) {
+}
@@ -7,10 +7,14 @@ import org.services.products.model.ProductEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 @Repository
 public interface ProductRepository extends MongoRepository<ProductEntity, String> {
 
     @Transactional
     void deleteProductById(String id);
 
+    Stream<ProductEntity> streamAllBy();
+
 }
@@ -4,14 +4,20 @@ import com.mongodb.client.gridfs.model.GridFSFile;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
 import org.services.configurations.exceptions.ExceptionMessages;
+import org.services.configurations.singleflight.SingleFlight;
+import org.services.products.utils.exceptions.ImageNotFoundException;
 import org.services.products.utils.exceptions.ImageUploadException;
 import org.services.products.utils.exceptions.InvalidImageFormatException;
+import org.services.products.utils.metrics.GridFsMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.gridfs.GridFsTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,6 +28,12 @@ import static org.services.configurations.exceptions.ExceptionMessages.*;
 public class GridFSService {
 
     private final GridFsTemplate gridFsTemplate;
+    private final GridFsMetrics gridFsMetrics;
+    private final SingleFlight singleFlight;
+
+    @Value("${products.images.coalesce-max-bytes:262144}")
+    private long coalesceMaxBytes;
+
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
         "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"
     );
@@ -49,18 +61,42 @@ public class GridFSService {
             filename, 
             contentType
         );
+        gridFsMetrics.recordUpload(file.getSize());
         
         return objectId.toString();
     }
 
     public InputStream downloadFile(String fileId) throws IOException {
-        GridFSFile gridFSFile = gridFsTemplate.findOne(
+        GridFSFile gridFSFile = findFile(fileId);
+        if (gridFSFile.getLength() <= coalesceMaxBytes) {
+            // Las descargas simultáneas de una imagen pequeña comparten una sola lectura de GridFS;
+            // las grandes se siguen enviando por streaming para no retener la imagen entera en memoria
+            byte[] content = singleFlight.execute("image-bytes", fileId, () -> readFile(gridFSFile));
+            return new ByteArrayInputStream(content);
+        }
+        return gridFsMetrics.countDownload(gridFsTemplate.getResource(gridFSFile).getInputStream());
+    }
+
+    private GridFSFile findFile(String fileId) {
+        GridFSFile gridFSFile = singleFlight.execute("image-metadata", fileId, () -> gridFsTemplate.findOne(
             org.springframework.data.mongodb.core.query.Query.query(
                 org.springframework.data.mongodb.core.query.Criteria.where("_id").is(fileId)
             )
-        );
+        ));
+        if (gridFSFile == null) {
+            throw new ImageNotFoundException(IMAGE_NOT_FOUND_MESSAGE_ES + fileId);
+        }
+        return gridFSFile;
+    }
 
-        return gridFsTemplate.getResource(gridFSFile).getInputStream();
+    private byte[] readFile(GridFSFile gridFSFile) {
+        try (InputStream inputStream = gridFsTemplate.getResource(gridFSFile).getInputStream()) {
+            byte[] content = inputStream.readAllBytes();
+            gridFsMetrics.recordDownload(content.length);
+            return content;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public void deleteFile(String fileId) {
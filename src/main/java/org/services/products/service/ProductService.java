@@ -2,10 +2,16 @@ package org.services.products.service;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.Request;
+import org.services.configurations.cache.CacheInvalidationBus;
+import org.services.configurations.cache.CacheNames;
 import org.services.configurations.exceptions.ExceptionMessages;
+import org.services.configurations.singleflight.SingleFlight;
+import org.services.configurations.timing.ServerTiming;
 import org.services.products.dto.request.ProductRequest;
+import org.services.products.dto.response.ProductLookupResponse;
 import org.services.products.dto.response.ProductResponse;
 import org.services.products.dto.response.SaveProductResponse;
+import org.services.products.utils.exceptions.BatchLimitExceededException;
 import org.services.products.utils.exceptions.ImageUploadException;
 import org.services.products.utils.exceptions.ProductNotFoundException;
 import org.services.products.model.ProductEntity;
@@ -17,8 +23,11 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.services.configurations.exceptions.ExceptionMessages.*;
@@ -27,8 +36,12 @@ import static org.services.configurations.exceptions.ExceptionMessages.*;
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_BATCH_IDS = 100;
+
     private final ProductRepository productRepository;
     private final GridFSService gridFSService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SingleFlight singleFlight;
 
     public SaveProductResponse createProduct(ProductRequest request) {
         ProductEntity product = new ProductEntity(
@@ -38,7 +51,7 @@ public class ProductService {
         );
 
         if (request.getImage() != null && !request.getImage().isEmpty()) {
-            try {
+            try (ServerTiming.Span span = ServerTiming.start("image-upload")) {
                 String imageId = gridFSService.uploadFile(request.getImage());
                 product.setImageId(imageId);
             } catch (IOException e) {
@@ -46,7 +59,10 @@ public class ProductService {
             }
         }
 
-        ProductEntity savedProduct = productRepository.save(product);
+        try (ServerTiming.Span span = ServerTiming.start("save")) {
+            productRepository.save(product);
+        }
+        cacheInvalidationBus.publish(CacheNames.PRODUCT, product.getId());
         return new SaveProductResponse(PRODUCT_CREATED_SUCCESS_MESSAGE_ES, LocalDateTime.now());
     }
 
@@ -54,7 +70,7 @@ public class ProductService {
         Page<ProductEntity> productPage = productRepository.findAll(PageRequest.of(page, size));
         List<ProductResponse> content = productPage.getContent()
                 .stream()
-                .map(this::mapToResponse)
+                .map(ProductService::mapToResponse)
                 .collect(Collectors.toList());
 
         return new PageResult<>(
@@ -65,6 +81,37 @@ public class ProductService {
         );
     }
 
+    public ProductResponse getProductById(String id) {
+        ProductEntity product = singleFlight.execute("product-by-id", id, () -> productRepository.findById(id).orElse(null));
+        if (product == null) {
+            throw new ProductNotFoundException(PRODUCT_NOT_FOUND_MESSAGE_ES + id);
+        }
+        return mapToResponse(product);
+    }
+
+    public List<ProductLookupResponse> getProductsByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BatchLimitExceededException(BATCH_IDS_REQUIRED);
+        }
+
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BatchLimitExceededException(BATCH_LIMIT_EXCEEDED + MAX_BATCH_IDS);
+        }
+
+        Map<String, ProductEntity> productsById = productRepository.findAllById(new LinkedHashSet<>(ids))
+                .stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+
+        return ids.stream()
+                .map(id -> {
+                    ProductEntity product = productsById.get(id);
+                    return product == null
+                            ? new ProductLookupResponse(id, false, null)
+                            : new ProductLookupResponse(id, true, mapToResponse(product));
+                })
+                .collect(Collectors.toList());
+    }
+
     public ProductResponse updateProduct(String id, ProductRequest request) {
         ProductEntity product = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException(PRODUCT_NOT_FOUND_MESSAGE_ES + id));
@@ -89,6 +136,7 @@ public class ProductService {
         }
 
         ProductEntity updatedProduct = productRepository.save(product);
+        cacheInvalidationBus.publish(CacheNames.PRODUCT, id);
         return mapToResponse(updatedProduct);
     }
 
@@ -101,9 +149,10 @@ public class ProductService {
         }
 
         productRepository.deleteProductById(id);
+        cacheInvalidationBus.publish(CacheNames.PRODUCT, id);
     }
 
-    private ProductResponse mapToResponse(ProductEntity product) {
+    public static ProductResponse mapToResponse(ProductEntity product) {
         ProductResponse response = new ProductResponse();
         response.setId(product.getId());
         response.setName(product.getName());
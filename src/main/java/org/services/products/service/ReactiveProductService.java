@@ -0,0 +1,80 @@
+package org.services.products.service;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.RequiredArgsConstructor;
+import org.services.products.dto.response.ProductResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.utils.exceptions.ImageNotFoundException;
+import org.services.products.utils.exceptions.ProductNotFoundException;
+import org.services.products.utils.metrics.GridFsMetrics;
+import org.services.products.utils.page.PageResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.ReactiveGridFsTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.services.configurations.exceptions.ExceptionMessages.IMAGE_NOT_FOUND_MESSAGE_ES;
+import static org.services.configurations.exceptions.ExceptionMessages.PRODUCT_NOT_FOUND_MESSAGE_ES;
+
+/**
+ * Non-blocking product read path on the reactive Mongo driver. Images are streamed as GridFS
+ * chunks, so only the buffers the client is ready to receive are in memory at any time.
+ */
+@Service
+@ConditionalOnProperty(name = "products.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProductService {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ReactiveGridFsTemplate reactiveGridFsTemplate;
+    private final GridFsMetrics gridFsMetrics;
+
+    @Value("${products.reactive.image-buffer-size:65536}")
+    private int imageBufferSize;
+
+    public Mono<PageResult<ProductResponse>> getAllProducts(int page, int size) {
+        Query query = new Query().with(PageRequest.of(page, size));
+        Mono<List<ProductResponse>> content = reactiveMongoTemplate.find(query, ProductEntity.class)
+                .map(ProductService::mapToResponse)
+                .collectList();
+        Mono<Long> total = reactiveMongoTemplate.count(new Query(), ProductEntity.class);
+
+        return Mono.zip(content, total)
+                .map(result -> new PageResult<>(result.getT1(), page, size, result.getT2().intValue()));
+    }
+
+    public Mono<ProductResponse> getProductById(String id) {
+        return reactiveMongoTemplate.findById(id, ProductEntity.class)
+                .map(ProductService::mapToResponse)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(PRODUCT_NOT_FOUND_MESSAGE_ES + id)));
+    }
+
+    public Mono<ImageStream> getImage(String imageId) {
+        return reactiveGridFsTemplate.findOne(Query.query(Criteria.where("_id").is(imageId)))
+                .switchIfEmpty(Mono.error(() -> new ImageNotFoundException(IMAGE_NOT_FOUND_MESSAGE_ES + imageId)))
+                .flatMap(file -> reactiveGridFsTemplate.getResource(file)
+                        .map(resource -> new ImageStream(contentType(file), file.getLength(),
+                                resource.getDownloadStream(imageBufferSize)
+                                        .doOnNext(buffer -> gridFsMetrics.recordDownload(buffer.readableByteCount())))));
+    }
+
+    private static MediaType contentType(GridFSFile file) {
+        if (file.getMetadata() != null && file.getMetadata().getString("_contentType") != null) {
+            return MediaType.parseMediaType(file.getMetadata().getString("_contentType"));
+        }
+        return MediaType.IMAGE_JPEG;
+    }
+
+    public record ImageStream(MediaType contentType, long length, Flux<DataBuffer> content) {
+    }
+}
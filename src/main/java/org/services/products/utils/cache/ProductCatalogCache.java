@@ -0,0 +1,192 @@
+package org.services.products.utils.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.services.configurations.cache.CacheInvalidationListener;
+import org.services.configurations.cache.CacheNames;
+import org.services.configurations.singleflight.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the serialized JSON (and a gzipped copy) of the first catalog pages. Entries are
+ * tagged with the catalog version they were built from; any product write bumps the version,
+ * which makes every entry stale at once. Writes on other nodes arrive through the
+ * {@code product} invalidation channel. A hit is a map lookup: no Mongo query, no mapping
+ * and no Jackson encoding.
+ */
+@Slf4j
+@Component
+public class ProductCatalogCache implements CacheInvalidationListener {
+
+    private static final String METRIC_NAME = "products.catalog.cache";
+
+    private final ObjectMapper objectMapper;
+    private final SingleFlight singleFlight;
+    private final AtomicLong version = new AtomicLong();
+    private final Map<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final int maxPages;
+    private final int maxPageSize;
+    private final int maxEntries;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+
+    public ProductCatalogCache(ObjectMapper objectMapper,
+                               SingleFlight singleFlight,
+                               MeterRegistry meterRegistry,
+                               @Value("${products.catalog-cache.max-pages:5}") int maxPages,
+                               @Value("${products.catalog-cache.max-page-size:100}") int maxPageSize,
+                               @Value("${products.catalog-cache.max-entries:64}") int maxEntries,
+                               @Value("${products.catalog-cache.gzip:true}") boolean gzipEnabled,
+                               @Value("${products.catalog-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.singleFlight = singleFlight;
+        this.hits = Counter.builder(METRIC_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.maxEntries = maxEntries;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * Returns the cached page, or builds it with {@code loader} and caches it when the page is
+     * one of the hot ones. Pages that will not be stored are returned as plain JSON, without the
+     * gzip copy and ETag that only pay off when reused. Concurrent misses for the same page and
+     * version share a single build.
+     */
+    public CachedPage getPage(int page, int size, Supplier<?> loader) {
+        PageKey key = new PageKey(page, size);
+        long currentVersion = version.get();
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.version() == currentVersion) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        return singleFlight.execute("catalog-page", List.of(currentVersion, page, size), () -> {
+            boolean store = isCacheable(page, size) && (pages.containsKey(key) || pages.size() < maxEntries);
+            CachedPage built = serialize(currentVersion, loader.get(), store);
+            if (store) {
+                pages.put(key, built);
+            }
+            return built;
+        });
+    }
+
+    public long invalidate() {
+        long next = version.incrementAndGet();
+        pages.clear();
+        log.debug("Product catalog cache invalidated, version {}", next);
+        return next;
+    }
+
+    @Override
+    public String cacheName() {
+        return CacheNames.PRODUCT;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        invalidate();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    private boolean isCacheable(int page, int size) {
+        return page >= 0 && page < maxPages && size > 0 && size <= maxPageSize;
+    }
+
+    private CachedPage serialize(long pageVersion, Object body, boolean store) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            if (!store) {
+                return new CachedPage(pageVersion, json, null, null);
+            }
+            byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+            return new CachedPage(pageVersion, json, gzip, etag(json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    /**
+     * The identity and gzip bodies are different representations, so each gets its own strong
+     * ETag: the gzip one carries a {@code -gzip} suffix. Either validates the page. Pages that
+     * are not stored have neither a gzip copy nor an ETag.
+     */
+    public record CachedPage(long version, byte[] json, byte[] gzip, String etag) {
+
+        private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+        }
+
+        public String etag(boolean gzipped) {
+            return gzipped ? gzipEtag() : etag;
+        }
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || etag == null) {
+                return false;
+            }
+            String gzipEtag = gzipEtag();
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.services.products.utils.exceptions;
+
+public class BatchLimitExceededException extends RuntimeException {
+
+    public BatchLimitExceededException(String message) {
+        super(message);
+    }
+}
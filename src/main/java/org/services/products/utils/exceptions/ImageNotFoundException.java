@@ -0,0 +1,8 @@
+package org.services.products.utils.exceptions;
+
+public class ImageNotFoundException extends RuntimeException {
+
+    public ImageNotFoundException(String message) {
+        super(message);
+    }
+}
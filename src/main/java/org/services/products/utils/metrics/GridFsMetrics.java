@@ -0,0 +1,70 @@
+package org.services.products.utils.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Component
+public class GridFsMetrics {
+
+    private static final String BYTES_METRIC = "products.gridfs.bytes";
+
+    private final Counter uploadedBytes;
+    private final Counter downloadedBytes;
+
+    public GridFsMetrics(MeterRegistry meterRegistry) {
+        this.uploadedBytes = Counter.builder(BYTES_METRIC)
+                .description("Bytes transferred to and from GridFS")
+                .baseUnit("bytes")
+                .tag("direction", "upload")
+                .register(meterRegistry);
+        this.downloadedBytes = Counter.builder(BYTES_METRIC)
+                .description("Bytes transferred to and from GridFS")
+                .baseUnit("bytes")
+                .tag("direction", "download")
+                .register(meterRegistry);
+    }
+
+    public void recordUpload(long bytes) {
+        uploadedBytes.increment(bytes);
+    }
+
+    public void recordDownload(long bytes) {
+        downloadedBytes.increment(bytes);
+    }
+
+    public InputStream countDownload(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    downloadedBytes.increment();
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read > 0) {
+                    downloadedBytes.increment(read);
+                }
+                return read;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                if (skipped > 0) {
+                    downloadedBytes.increment(skipped);
+                }
+                return skipped;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package org.services.products.utils.search;
+
+import java.util.Arrays;
+
+// Ids de documento y frecuencias de un término en dos int[] paralelos; los ids siempre llegan en orden creciente
+final class PostingList {
+
+    private int[] documents = new int[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    void add(int documentId, int frequency) {
+        if (size == documents.length) {
+            documents = Arrays.copyOf(documents, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        documents[size] = documentId;
+        frequencies[size] = frequency;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int documentAt(int index) {
+        return documents[index];
+    }
+
+    int frequencyAt(int index) {
+        return frequencies[index];
+    }
+}
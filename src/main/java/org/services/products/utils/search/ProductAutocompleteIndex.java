@@ -0,0 +1,358 @@
+package org.services.products.utils.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.services.configurations.cache.CacheInvalidationListener;
+import org.services.configurations.cache.CacheNames;
+import org.services.orders.model.OrderEntity;
+import org.services.products.dto.response.ProductSuggestionResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Prefix autocomplete over product names. Every word start of a folded name is a key in a
+ * sorted {@code String[]}; a prefix is a contiguous range found by binary search, and the
+ * most popular products (units sold) in that range are returned. Top-K lists for one and two
+ * character prefixes are computed up front because their ranges cover most of the catalog.
+ * Readers use an immutable snapshot without locking. Product writes arrive through the
+ * {@code product} invalidation channel and are merged into a new snapshot; when the estimated
+ * size passes the memory budget the least popular products are left out.
+ */
+@Slf4j
+@Component
+public class ProductAutocompleteIndex implements CacheInvalidationListener {
+
+    private static final String METRIC_PREFIX = "products.autocomplete";
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+    // Estimated object headers and references per key and per product, excluding characters
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int SUGGESTION_OVERHEAD_BYTES = 96;
+    private static final Comparator<ProductSuggestionResponse> BY_POPULARITY =
+            Comparator.comparingLong(ProductSuggestionResponse::popularity).reversed();
+
+    private final ProductRepository productRepository;
+    private final MongoTemplate mongoTemplate;
+    private final int topK;
+    private final int maxKeyLength;
+    private final long maxBytes;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private Map<String, Long> popularity = Map.of();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public ProductAutocompleteIndex(ProductRepository productRepository,
+                                    MongoTemplate mongoTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${products.autocomplete.top-k:10}") int topK,
+                                    @Value("${products.autocomplete.max-key-length:48}") int maxKeyLength,
+                                    @Value("${products.autocomplete.max-bytes:16777216}") long maxBytes) {
+        this.productRepository = productRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.topK = Math.max(topK, 1);
+        this.maxKeyLength = Math.max(maxKeyLength, PRECOMPUTED_PREFIX_LENGTH);
+        this.maxBytes = maxBytes;
+
+        Gauge.builder(METRIC_PREFIX + ".bytes", this, index -> index.snapshot.bytes)
+                .description("Estimated memory held by the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".products", this, index -> index.snapshot.products.size())
+                .register(meterRegistry);
+    }
+
+    public List<ProductSuggestionResponse> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (prefix.length() > maxKeyLength) {
+            prefix = prefix.substring(0, maxKeyLength);
+        }
+
+        Snapshot current = snapshot;
+        ProductSuggestionResponse[] best = prefix.length() <= PRECOMPUTED_PREFIX_LENGTH
+                ? current.shortPrefixes.getOrDefault(prefix, new ProductSuggestionResponse[0])
+                : topInRange(current, prefix, lowerBound(current.keys, prefix));
+        return List.of(best).subList(0, Math.min(limit, best.length));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${products.autocomplete.popularity-refresh-ms:600000}",
+            fixedDelayString = "${products.autocomplete.popularity-refresh-ms:600000}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            popularity = loadPopularity();
+            List<ProductSuggestionResponse> suggestions = new ArrayList<>();
+            try (Stream<ProductEntity> products = productRepository.streamAllBy()) {
+                products.forEach(product -> suggestions.add(toSuggestion(product)));
+            }
+            snapshot = build(suggestions);
+            log.info("Autocomplete index built with {} products, {} keys and ~{} bytes",
+                    snapshot.products.size(), snapshot.keys.length, snapshot.bytes);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CacheNames.PRODUCT;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        if (keys.contains(ALL_KEYS)) {
+            rebuild();
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            List<ProductSuggestionResponse> added = new ArrayList<>();
+            for (ProductEntity product : productRepository.findAllById(keys)) {
+                added.add(toSuggestion(product));
+            }
+            snapshot = merge(snapshot, new HashSet<>(keys), added);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Map<String, Long> loadPopularity() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("status").ne(OrderEntity.OrderStatus.CANCELLED)),
+                Aggregation.unwind("items"),
+                Aggregation.group("items.productId").sum("items.quantity").as("units"));
+
+        Map<String, Long> unitsByProduct = new HashMap<>();
+        for (Document result : mongoTemplate.aggregate(aggregation, OrderEntity.class, Document.class)) {
+            Object productId = result.get("_id");
+            Object units = result.get("units");
+            if (productId != null && units instanceof Number number) {
+                unitsByProduct.put(productId.toString(), number.longValue());
+            }
+        }
+        return unitsByProduct;
+    }
+
+    private ProductSuggestionResponse toSuggestion(ProductEntity product) {
+        String name = product.getName() == null ? "" : product.getName();
+        return new ProductSuggestionResponse(product.getId(), name, popularity.getOrDefault(product.getId(), 0L));
+    }
+
+    /** Full build: keeps the most popular products that fit the budget and sorts their keys. */
+    private Snapshot build(Collection<ProductSuggestionResponse> suggestions) {
+        List<ProductSuggestionResponse> byPopularity = new ArrayList<>(suggestions);
+        byPopularity.sort(BY_POPULARITY);
+
+        List<Entry> entries = new ArrayList<>();
+        Map<String, ProductSuggestionResponse> products = new HashMap<>();
+        long bytes = 0;
+        for (ProductSuggestionResponse suggestion : byPopularity) {
+            List<Entry> productEntries = entriesFor(suggestion);
+            long size = estimateBytes(suggestion, productEntries);
+            if (bytes + size > maxBytes) {
+                log.warn("Autocomplete memory budget of {} bytes reached, {} products left out",
+                        maxBytes, byPopularity.size() - products.size());
+                break;
+            }
+            bytes += size;
+            entries.addAll(productEntries);
+            products.put(suggestion.id(), suggestion);
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+        return snapshot(entries, products, bytes);
+    }
+
+    /**
+     * Incremental update: drops the keys of changed or deleted products and merges the sorted
+     * keys of their new versions into the existing order, without sorting the whole index again.
+     */
+    private Snapshot merge(Snapshot current, Set<String> removedIds, List<ProductSuggestionResponse> added) {
+        Map<String, ProductSuggestionResponse> products = new HashMap<>(current.products);
+        long bytes = current.bytes;
+        for (String id : removedIds) {
+            ProductSuggestionResponse removed = products.remove(id);
+            if (removed != null) {
+                bytes -= estimateBytes(removed, entriesFor(removed));
+            }
+        }
+
+        List<Entry> addedEntries = new ArrayList<>();
+        for (ProductSuggestionResponse suggestion : added) {
+            List<Entry> productEntries = entriesFor(suggestion);
+            bytes += estimateBytes(suggestion, productEntries);
+            addedEntries.addAll(productEntries);
+            products.put(suggestion.id(), suggestion);
+        }
+        if (bytes > maxBytes) {
+            return build(products.values());
+        }
+        addedEntries.sort(Comparator.comparing(Entry::key));
+
+        List<Entry> entries = new ArrayList<>(current.keys.length + addedEntries.size());
+        int next = 0;
+        for (int i = 0; i < current.keys.length; i++) {
+            if (removedIds.contains(current.owners[i].id())) {
+                continue;
+            }
+            while (next < addedEntries.size() && addedEntries.get(next).key().compareTo(current.keys[i]) < 0) {
+                entries.add(addedEntries.get(next++));
+            }
+            entries.add(new Entry(current.keys[i], current.owners[i]));
+        }
+        entries.addAll(addedEntries.subList(next, addedEntries.size()));
+        return snapshot(entries, products, bytes);
+    }
+
+    private Snapshot snapshot(List<Entry> entries, Map<String, ProductSuggestionResponse> products, long bytes) {
+        String[] keys = new String[entries.size()];
+        ProductSuggestionResponse[] owners = new ProductSuggestionResponse[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).key();
+            owners[i] = entries.get(i).owner();
+        }
+
+        Map<String, ProductSuggestionResponse[]> shortPrefixes = new HashMap<>();
+        for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH; length++) {
+            int i = 0;
+            while (i < keys.length) {
+                if (keys[i].length() < length) {
+                    i++;
+                    continue;
+                }
+                String prefix = keys[i].substring(0, length);
+                int end = i;
+                while (end < keys.length && keys[end].startsWith(prefix)) {
+                    end++;
+                }
+                shortPrefixes.put(prefix, topK(owners, i, end));
+                i = end;
+            }
+        }
+        return new Snapshot(keys, owners, shortPrefixes, products, bytes);
+    }
+
+    private ProductSuggestionResponse[] topInRange(Snapshot current, String prefix, int from) {
+        int end = from;
+        while (end < current.keys.length && current.keys[end].startsWith(prefix)) {
+            end++;
+        }
+        return topK(current.owners, from, end);
+    }
+
+    /** Most popular distinct products in {@code owners[from, to)}, best first. */
+    private ProductSuggestionResponse[] topK(ProductSuggestionResponse[] owners, int from, int to) {
+        ProductSuggestionResponse[] best = new ProductSuggestionResponse[topK];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            ProductSuggestionResponse candidate = owners[i];
+            if (size == topK && candidate.popularity() <= best[size - 1].popularity()) {
+                continue;
+            }
+            if (containsProduct(best, size, candidate)) {
+                continue;
+            }
+            int position = size < topK ? size++ : size - 1;
+            while (position > 0 && best[position - 1].popularity() < candidate.popularity()) {
+                best[position] = best[position - 1];
+                position--;
+            }
+            best[position] = candidate;
+        }
+        return Arrays.copyOf(best, size);
+    }
+
+    private static boolean containsProduct(ProductSuggestionResponse[] best, int size, ProductSuggestionResponse candidate) {
+        for (int i = 0; i < size; i++) {
+            if (best[i] == candidate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private List<Entry> entriesFor(ProductSuggestionResponse suggestion) {
+        String normalized = normalize(suggestion.name());
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                entries.add(new Entry(normalized.substring(i, Math.min(normalized.length(), i + maxKeyLength)), suggestion));
+            }
+        }
+        return entries;
+    }
+
+    private static long estimateBytes(ProductSuggestionResponse suggestion, List<Entry> entries) {
+        long bytes = SUGGESTION_OVERHEAD_BYTES + suggestion.id().length() + suggestion.name().length();
+        for (Entry entry : entries) {
+            bytes += ENTRY_OVERHEAD_BYTES + entry.key().length();
+        }
+        return bytes;
+    }
+
+    /** Folds accents and case and collapses everything that is not a letter or digit to one space. */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = SpanishTokenizer.fold(text);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            } else if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        return normalized.toString().stripTrailing();
+    }
+
+    private record Entry(String key, ProductSuggestionResponse owner) {
+    }
+
+    private record Snapshot(String[] keys,
+                            ProductSuggestionResponse[] owners,
+                            Map<String, ProductSuggestionResponse[]> shortPrefixes,
+                            Map<String, ProductSuggestionResponse> products,
+                            long bytes) {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new ProductSuggestionResponse[0], Map.of(), Map.of(), 0);
+    }
+}
@@ -0,0 +1,279 @@
+package org.services.products.utils.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.services.configurations.cache.CacheInvalidationListener;
+import org.services.configurations.cache.CacheNames;
+import org.services.products.dto.response.ProductSearchResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.repository.ProductRepository;
+import org.services.products.service.ProductService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Índice invertido en memoria sobre nombre y descripción, ordenado con BM25; se carga al arrancar y se mantiene
+// con el canal de invalidación "product". Los productos cambiados o borrados se compactan cuando superan a los vivos
+@Slf4j
+@Component
+public class ProductSearchIndex implements CacheInvalidationListener {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 2;
+    private static final int COMPACTION_MIN_TOMBSTONES = 1024;
+
+    private final ProductRepository productRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private IndexData data = new IndexData();
+    // Cambios llegados durante una reconstrucción, por id de producto; null en el valor es un borrado
+    private Map<String, ProductEntity> changesDuringRebuild;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // Se construye sin bloquear: las búsquedas y escrituras siguen sobre el índice actual
+            IndexData rebuilt = new IndexData();
+            try (Stream<ProductEntity> products = productRepository.streamAllBy()) {
+                products.forEach(rebuilt::add);
+            }
+
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild.forEach((productId, product) -> {
+                    if (product == null) {
+                        rebuilt.remove(productId);
+                    } else {
+                        rebuilt.add(product);
+                    }
+                });
+                data = rebuilt;
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Product search index built with {} products and {} terms", rebuilt.liveDocuments, rebuilt.postings.size());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+                rebuildLock.unlock();
+            }
+        }
+    }
+
+    public ProductSearchResponse search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SpanishTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return new ProductSearchResponse(query, 0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            return data.search(query, terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(ProductEntity product) {
+        lock.writeLock().lock();
+        try {
+            data.add(product);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(product.getId(), product);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            data.remove(productId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, null);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return data.liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CacheNames.PRODUCT;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        if (keys.contains(ALL_KEYS)) {
+            rebuild();
+            return;
+        }
+        Set<String> missing = new HashSet<>(keys);
+        for (ProductEntity product : productRepository.findAllById(keys)) {
+            missing.remove(product.getId());
+            index(product);
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void compactIfNeeded() {
+        int tombstones = data.nextDocumentId - data.liveDocuments;
+        if (tombstones >= COMPACTION_MIN_TOMBSTONES && tombstones > data.liveDocuments) {
+            IndexData compacted = new IndexData();
+            for (int id = 0; id < data.nextDocumentId; id++) {
+                if (data.entities[id] != null) {
+                    compacted.add(data.entities[id]);
+                }
+            }
+            data = compacted;
+        }
+    }
+
+    private static final class IndexData {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<String, Integer> liveDocumentFrequencies = new HashMap<>();
+        private final Map<String, Integer> documentIds = new HashMap<>();
+        private ProductEntity[] entities = new ProductEntity[64];
+        private int[] lengths = new int[64];
+        private int nextDocumentId;
+        private int liveDocuments;
+        private long totalLength;
+
+        void add(ProductEntity product) {
+            remove(product.getId());
+
+            Map<String, Integer> frequencies = termFrequencies(product);
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+            int id = nextDocumentId++;
+            if (id == entities.length) {
+                entities = Arrays.copyOf(entities, id * 2);
+                lengths = Arrays.copyOf(lengths, id * 2);
+            }
+            entities[id] = product;
+            lengths[id] = length;
+            documentIds.put(product.getId(), id);
+            liveDocuments++;
+            totalLength += length;
+            frequencies.forEach((term, frequency) -> {
+                postings.computeIfAbsent(term, t -> new PostingList()).add(id, frequency);
+                liveDocumentFrequencies.merge(term, 1, Integer::sum);
+            });
+        }
+
+        void remove(String productId) {
+            Integer id = documentIds.remove(productId);
+            if (id == null) {
+                return;
+            }
+            for (String term : termFrequencies(entities[id]).keySet()) {
+                liveDocumentFrequencies.computeIfPresent(term, (t, count) -> count == 1 ? null : count - 1);
+            }
+            entities[id] = null;
+            totalLength -= lengths[id];
+            liveDocuments--;
+        }
+
+        ProductSearchResponse search(String query, Set<String> terms, int limit) {
+            if (liveDocuments == 0) {
+                return new ProductSearchResponse(query, 0, List.of());
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveDocuments);
+
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Integer documentFrequency = liveDocumentFrequencies.get(term);
+                if (documentFrequency == null) {
+                    continue;
+                }
+                PostingList posting = postings.get(term);
+                double idf = Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                for (int i = 0; i < posting.size(); i++) {
+                    int id = posting.documentAt(i);
+                    if (entities[id] == null) {
+                        continue;
+                    }
+                    int tf = posting.frequencyAt(i);
+                    double norm = K1 * (1 - B + B * lengths[id] / averageLength);
+                    scores.merge(id, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.<Integer, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Integer, Double>comparingByKey().reversed());
+            PriorityQueue<Map.Entry<Integer, Double>> top = new PriorityQueue<>(limit + 1, byScore);
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                top.add(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<ProductSearchResponse.Hit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Integer, Double> entry = top.poll();
+                hits.add(new ProductSearchResponse.Hit(ProductService.mapToResponse(entities[entry.getKey()]), entry.getValue()));
+            }
+            Collections.reverse(hits);
+            return new ProductSearchResponse(query, scores.size(), hits);
+        }
+
+        private static Map<String, Integer> termFrequencies(ProductEntity product) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String term : SpanishTokenizer.tokenize(product.getName())) {
+                frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+            }
+            for (String term : SpanishTokenizer.tokenize(product.getDescription())) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+            return frequencies;
+        }
+    }
+}
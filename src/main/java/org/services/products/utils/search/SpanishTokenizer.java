@@ -0,0 +1,86 @@
+package org.services.products.utils.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Términos de búsqueda en español: minúsculas, sin tildes ("canción" = "cancion", "niño" = "nino"),
+// sin palabras vacías y plurales en singular ("pantalones" -> "pantalon", "lápices" -> "lapiz")
+public final class SpanishTokenizer {
+
+    private static final Locale SPANISH = Locale.forLanguageTag("es");
+    private static final int MIN_STEM_LENGTH = 4;
+    private static final String SINGULAR_FINAL_CONSONANTS = "lnrdj";
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "algo", "ante", "como", "con", "contra", "cual", "cuando", "de", "del", "desde",
+            "donde", "durante", "e", "el", "ella", "ellas", "ellos", "en", "entre", "era", "es", "esa",
+            "ese", "eso", "esta", "este", "esto", "hasta", "la", "las", "le", "les", "lo", "los", "mas",
+            "me", "mi", "mis", "muy", "ni", "no", "nos", "o", "otra", "otro", "para", "pero", "por",
+            "que", "se", "si", "sin", "sobre", "su", "sus", "tambien", "te", "tu", "un", "una", "uno",
+            "unos", "unas", "y", "ya"
+    );
+
+    private SpanishTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = folded.substring(start, i);
+                if (!STOP_WORDS.contains(word)) {
+                    terms.add(stem(word));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // Minúsculas y sin tildes, sin quitar plurales; lo usa la búsqueda por prefijo
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(SPANISH), Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    static String stem(String word) {
+        if (word.length() <= MIN_STEM_LENGTH - 1 || Character.isDigit(word.charAt(word.length() - 1))) {
+            return word;
+        }
+        if (word.endsWith("ces") && word.length() > MIN_STEM_LENGTH) {
+            return word.substring(0, word.length() - 3) + "z";
+        }
+        // "colores", "pantalones", "paredes": vocal + l/n/r/d/j + "es"; "madres" o "clases" solo pierden la "s"
+        if (word.endsWith("es") && word.length() > MIN_STEM_LENGTH
+                && SINGULAR_FINAL_CONSONANTS.indexOf(word.charAt(word.length() - 3)) >= 0
+                && isVowel(word.charAt(word.length() - 4))) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.endsWith("s") && !word.endsWith("ss")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+}
@@ -1,5 +1,6 @@
 package org.services.users.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.services.configurations.exceptions.ExceptionMessages;
 import org.services.users.dto.request.LoginRequest;
@@ -19,8 +20,9 @@ public class LoginController {
     private final LoginService loginService;
 
     @PostMapping
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
-        LoginResponse loginResponse = loginService.login(loginRequest);
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        // Tomcat ya sustituye la IP del balanceador por la del cliente (server.forward-headers-strategy)
+        LoginResponse loginResponse = loginService.login(loginRequest, request.getRemoteAddr());
 
         if (ExceptionMessages.LOGIN_SUCCESS_MESSAGE_ES.equals(loginResponse.message())) {
             return ResponseEntity.ok(loginResponse);
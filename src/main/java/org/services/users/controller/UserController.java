@@ -3,26 +3,37 @@ package org.services.users.controller;
 import lombok.RequiredArgsConstructor;
 import org.services.users.dto.request.CreateUserRequest;
 
-import org.services.users.dto.response.UserResponse;
+import org.services.users.dto.response.UserImportResponse;
+import org.services.users.dto.response.UserPageResponse;
 import org.services.users.model.UserEntity;
+import org.services.users.service.UserImportService;
 import org.services.users.service.UserService;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @PostMapping
     public UserEntity createUser(@RequestBody CreateUserRequest user) {
         return  userService.saveUser(user);
     }
     @GetMapping
-    public List<UserResponse> getUsers() {
-        return userService.getAllUsers();
+    public UserPageResponse getUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size) {
+        return userService.getAllUsers(after, size);
+    }
+
+    @PostMapping(value = "/import", consumes = "multipart/form-data")
+    public UserImportResponse importUsers(@RequestParam("file") MultipartFile file) throws IOException {
+        return userImportService.importUsers(file.getInputStream());
     }
 
 }
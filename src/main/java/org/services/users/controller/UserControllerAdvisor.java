@@ -1,11 +1,15 @@
 package org.services.users.controller;
 
 import org.services.configurations.exceptions.ExceptionResponse;
+import org.services.users.utils.exceptions.InvalidImportFileException;
+import org.services.users.utils.exceptions.LoginCapacityExceededException;
+import org.services.users.utils.exceptions.TooManyLoginAttemptsException;
 import org.services.users.utils.exceptions.UserAlreadyExistsException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
@@ -21,6 +25,13 @@ public class UserControllerAdvisor {
 
     }
 
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ExceptionResponse> handleInvalidImportFile(InvalidImportFileException exception) {
+        return ResponseEntity
+                .badRequest()
+                .body(new ExceptionResponse(exception.getMessage(), LocalDateTime.now()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ExceptionResponse> handleIllegalArgument(IllegalArgumentException exception) {
         return ResponseEntity
@@ -38,4 +49,19 @@ public class UserControllerAdvisor {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(new ExceptionResponse(message, LocalDateTime.now()));
     }
+
+    @ExceptionHandler(LoginCapacityExceededException.class)
+    public ResponseEntity<ExceptionResponse> handleLoginCapacityExceeded(LoginCapacityExceededException exception) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ExceptionResponse(exception.getMessage(), LocalDateTime.now()));
+    }
+
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ExceptionResponse> handleTooManyLoginAttempts(TooManyLoginAttemptsException exception) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ExceptionResponse(exception.getMessage(), LocalDateTime.now()));
+    }
 }
@@ -0,0 +1,11 @@
+package org.services.users.dto.response;
+
+import java.util.List;
+
+public record UserImportResponse(
+        int total,
+        int imported,
+        int failed,
+        List<UserImportRowResult> rows
+) {
+}
@@ -0,0 +1,9 @@
+package org.services.users.dto.response;
+
+public record UserImportRowResult(
+        int line,
+        String email,
+        boolean success,
+        String message
+) {
+}
@@ -0,0 +1,10 @@
+package org.services.users.dto.response;
+
+import java.util.List;
+
+public record UserPageResponse(
+        List<UserResponse> content,
+        int size,
+        Long nextCursor
+) {
+}
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 
 public record UserResponse(
 
+        Long id,
         String firstName,
         String lastName,
         Long identityDocument,
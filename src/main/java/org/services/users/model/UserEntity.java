@@ -11,8 +11,11 @@ import java.time.LocalDate;
 @Setter
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = UserEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 public class UserEntity {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_user_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
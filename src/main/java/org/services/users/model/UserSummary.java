@@ -0,0 +1,15 @@
+package org.services.users.model;
+
+import java.time.LocalDate;
+
+public record UserSummary(
+        Long id,
+        String firstName,
+        String lastName,
+        Long identityDocument,
+        String phoneNumber,
+        LocalDate birthDate,
+        String email,
+        Long roleId
+) {
+}
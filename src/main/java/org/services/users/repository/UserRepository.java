@@ -1,13 +1,40 @@
 package org.services.users.repository;
 
 
+import jakarta.persistence.QueryHint;
 import org.services.users.model.UserEntity;
+import org.services.users.model.UserSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
+    // Declared query methods get no transaction from SimpleJpaRepository; read-only lets the login lookup use a replica.
+    @Transactional(readOnly = true)
     Optional<UserEntity> findByEmail(String email);
+
+    @Query("select new org.services.users.model.UserSummary(" +
+            "u.id, u.firstName, u.lastName, u.identityDocument, u.phoneNumber, u.birthDate, u.email, u.role.id) " +
+            "from UserEntity u " +
+            "where u.id > :afterId order by u.id")
+    List<UserSummary> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from UserEntity u")
+    Stream<String> streamAllEmails();
+
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
\ No newline at end of file
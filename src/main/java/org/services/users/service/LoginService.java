@@ -2,13 +2,19 @@ package org.services.users.service;
 
 import lombok.RequiredArgsConstructor;
 import org.services.configurations.exceptions.ExceptionMessages;
+import org.services.configurations.reference.ReferenceDataRegistry;
+import org.services.configurations.reference.RoleReference;
+import org.services.configurations.timing.ServerTiming;
 import org.services.users.dto.request.LoginRequest;
 import org.services.users.dto.response.LoginResponse;
 import org.services.users.model.UserEntity;
 import org.services.users.repository.UserRepository;
 import org.services.users.utils.config.PasswordEncoderAdapter;
 import org.services.users.utils.exceptions.InvalidPasswordException;
+import org.services.users.utils.exceptions.TooManyLoginAttemptsException;
 import org.services.users.utils.exceptions.UserNotFoundException;
+import org.services.users.utils.security.AccessTokenProvider;
+import org.services.users.utils.security.LoginRateLimiter;
 import org.springframework.stereotype.Service;
 
 
@@ -18,21 +24,40 @@ import org.springframework.stereotype.Service;
 public class LoginService {
     private final UserRepository userRepository;
     private final PasswordEncoderAdapter passwordEncoderAdapter;
+    private final AccessTokenProvider accessTokenProvider;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    public LoginResponse login(LoginRequest loginRequest) {
-        UserEntity user = userRepository.findByEmail(loginRequest.getEmail())
-                .orElseThrow(() -> new UserNotFoundException(ExceptionMessages.USER_NOT_FOUND_MESSAGE_ES));
+    public LoginResponse login(LoginRequest loginRequest, String clientAddress) {
+        if (!loginRateLimiter.tryAcquire(loginRequest.getEmail(), clientAddress)) {
+            throw new TooManyLoginAttemptsException(ExceptionMessages.TOO_MANY_LOGIN_ATTEMPTS_MESSAGE_ES);
+        }
+
+        UserEntity user;
+        try (ServerTiming.Span span = ServerTiming.start("user-lookup")) {
+            user = userRepository.findByEmail(loginRequest.getEmail())
+                    .orElseThrow(() -> new UserNotFoundException(ExceptionMessages.USER_NOT_FOUND_MESSAGE_ES));
+        }
 
-        if (!passwordEncoderAdapter.matches(loginRequest.getPassword(), user.getPassword())) {
+        boolean passwordMatches;
+        try (ServerTiming.Span span = ServerTiming.start("bcrypt")) {
+            passwordMatches = passwordEncoderAdapter.matches(loginRequest.getPassword(), user.getPassword());
+        }
+        if (!passwordMatches) {
             throw new InvalidPasswordException(ExceptionMessages.INVALID_PASSWORD_MESSAGE_ES);
         }
 
+        String roleName = referenceDataRegistry.findRoleById(user.getRole().getId())
+                .map(RoleReference::name)
+                .orElse(null);
+
         return new LoginResponse(
                 user.getId(),
                 user.getFirstName(),
                 user.getEmail(),
                 ExceptionMessages.LOGIN_SUCCESS_MESSAGE_ES,
-                user.getRole().toString()
+                roleName,
+                accessTokenProvider.issue(user.getId(), roleName)
         );
     }
 }
@@ -0,0 +1,312 @@
+package org.services.users.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.services.users.dto.response.UserImportResponse;
+import org.services.users.dto.response.UserImportRowResult;
+import org.services.configurations.reference.ReferenceDataRegistry;
+import org.services.configurations.reference.RoleReference;
+import org.services.users.repository.UserRepository;
+import org.services.users.utils.exceptions.InvalidImportFileException;
+import org.services.users.utils.filter.EmailBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.services.configurations.exceptions.ExceptionMessages.*;
+
+/**
+ * Streams a CSV of users, hashes passwords on a dedicated pool and inserts each chunk with a
+ * single JDBC batch. A failing batch is rolled back and replayed row by row so every line of
+ * the file gets its own result.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    static final String CSV_HEADER = "firstName,lastName,identityDocument,phoneNumber,birthDate,email,password,role";
+
+    private static final String INSERT_USER_SQL =
+            "insert into user_entity (first_name, last_name, identity_document, phone_number, birth_date, email, password, role_id) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 8;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final int chunkSize;
+    private final ExecutorService hashingExecutor;
+
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             UserRepository userRepository,
+                             ReferenceDataRegistry referenceDataRegistry,
+                             PasswordEncoder passwordEncoder,
+                             EmailBloomFilter emailBloomFilter,
+                             @Value("${users.import.chunk-size:500}") int chunkSize,
+                             @Value("${users.import.hashing-threads:0}") int hashingThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.passwordEncoder = passwordEncoder;
+        this.emailBloomFilter = emailBloomFilter;
+        this.chunkSize = Math.max(chunkSize, 1);
+
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UserImportResponse importUsers(InputStream csv) throws IOException {
+        Map<String, RoleReference> roles = referenceDataRegistry.getRolesByName();
+        Set<String> seenEmails = new HashSet<>();
+        List<UserImportRowResult> results = new ArrayList<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new InvalidImportFileException(IMPORT_FILE_EMPTY_MESSAGE_ES);
+            }
+            if (!CSV_HEADER.equalsIgnoreCase(header.replace("\uFEFF", "").replace(" ", ""))) {
+                throw new InvalidImportFileException(IMPORT_INVALID_HEADER_MESSAGE_ES + CSV_HEADER);
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                ImportRow row = parseRow(lineNumber, line, roles, seenEmails, results);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(chunk, results);
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, results);
+        }
+
+        results.sort(Comparator.comparingInt(UserImportRowResult::line));
+        int imported = (int) results.stream().filter(UserImportRowResult::success).count();
+        log.info("User import finished: {} rows, {} imported, {} failed", results.size(), imported, results.size() - imported);
+        return new UserImportResponse(results.size(), imported, results.size() - imported, results);
+    }
+
+    private ImportRow parseRow(int lineNumber, String line, Map<String, RoleReference> roles,
+                               Set<String> seenEmails, List<UserImportRowResult> results) {
+        String[] fields = splitCsvLine(line);
+        if (fields == null) {
+            results.add(failure(lineNumber, null, IMPORT_INVALID_ROW_MESSAGE_ES + "comillas sin cerrar o mal colocadas"));
+            return null;
+        }
+        if (fields.length != COLUMN_COUNT) {
+            results.add(failure(lineNumber, null, IMPORT_INVALID_ROW_MESSAGE_ES + "se esperaban " + COLUMN_COUNT
+                    + " columnas y hay " + fields.length));
+            return null;
+        }
+
+        String email = fields[5].trim();
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            results.add(failure(lineNumber, email, INVALID_EMAIL_FORMAT_MESSAGE_ES));
+            return null;
+        }
+
+        String roleName = fields[7].trim();
+        RoleReference role = roles.get(roleName.toUpperCase(Locale.ROOT));
+        if (role == null) {
+            results.add(failure(lineNumber, email, ROLE_NOT_FOUND_MESSAGE_ES + roleName));
+            return null;
+        }
+
+        String password = fields[6];
+        if (password.isBlank()) {
+            results.add(failure(lineNumber, email, IMPORT_INVALID_ROW_MESSAGE_ES + "password"));
+            return null;
+        }
+
+        Long identityDocument;
+        LocalDate birthDate;
+        try {
+            identityDocument = fields[2].isBlank() ? null : Long.valueOf(fields[2].trim());
+            birthDate = fields[4].isBlank() ? null : LocalDate.parse(fields[4].trim());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            results.add(failure(lineNumber, email, IMPORT_INVALID_ROW_MESSAGE_ES + e.getMessage()));
+            return null;
+        }
+
+        if (!seenEmails.add(email.toLowerCase(Locale.ROOT))) {
+            results.add(failure(lineNumber, email, IMPORT_DUPLICATE_EMAIL_MESSAGE_ES + email));
+            return null;
+        }
+
+        return new ImportRow(lineNumber, fields[0].trim(), fields[1].trim(), identityDocument,
+                fields[3].trim(), birthDate, email, password, role.id());
+    }
+
+    /*
+     * RFC 4180 on a single line: fields may be quoted to hold commas, and "" inside quotes is a
+     * literal quote. Returns null when a quote is left open or text follows a closing quote.
+     */
+    static String[] splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        return null;
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    return null;
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != ',') {
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        return null;
+                    }
+                    field.append(c);
+                }
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields.toArray(new String[0]);
+            }
+            i++;
+        }
+    }
+
+    private void insertChunk(List<ImportRow> chunk, List<UserImportRowResult> results) {
+        List<String> candidates = chunk.stream()
+                .map(ImportRow::email)
+                .filter(emailBloomFilter::mightContain)
+                .toList();
+        Set<String> existing = candidates.isEmpty()
+                ? Set.of()
+                : userRepository.findExistingEmails(candidates).stream()
+                        .map(email -> email.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+
+        List<ImportRow> pending = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existing.contains(row.email().toLowerCase(Locale.ROOT))) {
+                results.add(failure(row.line(), row.email(), USER_ALREADY_EXISTS + row.email()));
+            } else {
+                pending.add(row);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashes = pending.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashingExecutor))
+                .toList();
+        List<Object[]> batchArgs = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            batchArgs.add(pending.get(i).toInsertArgs(hashes.get(i).join()));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER_SQL, batchArgs));
+            for (ImportRow row : pending) {
+                emailBloomFilter.put(row.email());
+                results.add(new UserImportRowResult(row.line(), row.email(), true, null));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Batch insert of {} users failed, retrying row by row: {}", pending.size(), e.getMostSpecificCause().getMessage());
+            for (int i = 0; i < pending.size(); i++) {
+                results.add(insertSingle(pending.get(i), batchArgs.get(i)));
+            }
+        }
+    }
+
+    private UserImportRowResult insertSingle(ImportRow row, Object[] args) {
+        try {
+            jdbcTemplate.update(INSERT_USER_SQL, args);
+            emailBloomFilter.put(row.email());
+            return new UserImportRowResult(row.line(), row.email(), true, null);
+        } catch (DuplicateKeyException e) {
+            return failure(row.line(), row.email(), USER_ALREADY_EXISTS + row.email());
+        } catch (DataAccessException e) {
+            return failure(row.line(), row.email(), USER_CREATION_ERROR_MESSAGE_ES + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private static UserImportRowResult failure(int line, String email, String message) {
+        return new UserImportRowResult(line, email, false, message);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    private record ImportRow(int line, String firstName, String lastName, Long identityDocument,
+                             String phoneNumber, LocalDate birthDate, String email, String password, Long roleId) {
+
+        Object[] toInsertArgs(String encodedPassword) {
+            return new Object[]{firstName, lastName, identityDocument, phoneNumber, birthDate, email, encodedPassword, roleId};
+        }
+    }
+}
@@ -1,23 +1,32 @@
 package org.services.users.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.services.configurations.exceptions.ExceptionMessages;
+import org.services.configurations.reference.ReferenceDataRegistry;
+import org.services.configurations.reference.RoleReference;
 import org.services.users.dto.request.CreateUserRequest;
+import org.services.users.dto.response.UserPageResponse;
 import org.services.users.dto.response.UserResponse;
 import org.services.users.model.UserEntity;
-import org.services.users.model.RoleEntity;
+import org.services.users.model.UserSummary;
 import org.services.users.repository.RoleRepository;
 import org.services.users.repository.UserRepository;
 import org.services.users.utils.config.PasswordEncoderAdapter;
 import org.services.users.utils.exceptions.InvalidEmailException;
 import org.services.users.utils.exceptions.RoleNotFoundException;
 import org.services.users.utils.exceptions.UserAlreadyExistsException;
+import org.services.users.utils.filter.EmailBloomFilter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static org.services.configurations.exceptions.ExceptionMessages.*;
 
@@ -27,22 +36,29 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoderAdapter passwordEncoderAdapter;
     private final RoleRepository roleRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
 
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
             "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$"
     );
 
     public UserEntity saveUser(CreateUserRequest request) {
-        Optional<UserEntity> existingUser = userRepository.findByEmail(request.getEmail());
-        if (existingUser.isPresent()) {
-            throw new UserAlreadyExistsException(USER_ALREADY_EXISTS + request.getEmail());
+        if (emailBloomFilter.mightContain(request.getEmail())) {
+            Optional<UserEntity> existingUser = userRepository.findByEmail(request.getEmail());
+            if (existingUser.isPresent()) {
+                throw new UserAlreadyExistsException(USER_ALREADY_EXISTS + request.getEmail());
+            }
         }
 
         if (!isValidEmail(request.getEmail())) {
             throw new InvalidEmailException(INVALID_EMAIL_FORMAT_MESSAGE_ES);
         }
 
-        RoleEntity role = roleRepository.findByName(request.getRole().toUpperCase())
+        RoleReference role = referenceDataRegistry.findRoleByName(request.getRole())
                 .orElseThrow(() -> new RoleNotFoundException(ROLE_NOT_FOUND_MESSAGE_ES  + request.getRole()));
 
         UserEntity user = new UserEntity();
@@ -53,27 +69,66 @@ public class UserService {
         user.setBirthDate(request.getBirthDate());
         user.setEmail(request.getEmail());
         user.setPassword(request.getPassword());
-        user.setRole(role);
+        user.setRole(roleRepository.getReferenceById(role.id()));
 
         String encodedPassword = passwordEncoderAdapter.encode(request.getPassword());
         user.setPassword(encodedPassword);
 
-        return userRepository.save(user);
+        UserEntity savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new UserAlreadyExistsException(USER_ALREADY_EXISTS + request.getEmail());
+            }
+            throw e;
+        }
+
+        emailBloomFilter.put(savedUser.getEmail());
+        return savedUser;
+    }
+
+    /*
+     * Only a violation of the unique email index means the address is taken. A bad role id, a
+     * null column or an oversized value is a different failure and must not be reported as a
+     * duplicate.
+     */
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(UserEntity.EMAIL_UNIQUE_CONSTRAINT);
+            }
+            if (cause instanceof SQLException sqlException) {
+                return sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                        && sqlException.getMessage() != null
+                        && sqlException.getMessage().toLowerCase(Locale.ROOT).contains(UserEntity.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
     }
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(user -> new UserResponse(
-                        user.getFirstName(),
-                        user.getLastName(),
-                        user.getIdentityDocument(),
-                        user.getPhoneNumber(),
-                        user.getBirthDate(),
-                        user.getEmail(),
-                        user.getRole().getName()
-                ))
-                .collect(Collectors.toList());
+
+    @Transactional(readOnly = true)
+    public UserPageResponse getAllUsers(Long afterId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<UserResponse> users = userRepository.findPageAfter(
+                        afterId == null ? 0L : afterId,
+                        PageRequest.of(0, pageSize))
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+
+        Long nextCursor = users.size() == pageSize ? users.get(users.size() - 1).id() : null;
+        return new UserPageResponse(users, pageSize, nextCursor);
     }
     
+    private UserResponse mapToResponse(UserSummary user) {
+        String roleName = referenceDataRegistry.findRoleById(user.roleId())
+                .map(RoleReference::name)
+                .orElse(null);
+        return new UserResponse(user.id(), user.firstName(), user.lastName(), user.identityDocument(),
+                user.phoneNumber(), user.birthDate(), user.email(), roleName);
+    }
+
     private boolean isValidEmail(String email) {
         return EMAIL_PATTERN.matcher(email).matches();
     }
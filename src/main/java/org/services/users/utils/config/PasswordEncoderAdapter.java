@@ -9,12 +9,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordEncoderAdapter {
 
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     public String encode(String password) {
-        return passwordEncoder.encode(password);
+        return passwordHashingExecutor.execute(() -> passwordEncoder.encode(password));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHashingExecutor.execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
     }
 }
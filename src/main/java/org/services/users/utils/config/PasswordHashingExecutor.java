@@ -0,0 +1,125 @@
+package org.services.users.utils.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.services.users.utils.exceptions.LoginCapacityExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.services.configurations.exceptions.ExceptionMessages.LOGIN_CAPACITY_EXCEEDED_MESSAGE_ES;
+
+/**
+ * Bulkhead for BCrypt work: a fixed pool sized to the CPU count with a bounded queue,
+ * so a burst of logins waits here (or is rejected) instead of occupying request threads.
+ * It stays on platform threads in virtual-thread mode: hashing is CPU-bound, not blocking I/O.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String METRIC_PREFIX = "users.password.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer queueTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${users.password-hashing.threads:0}") int threads,
+                                   @Value("${users.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${users.password-hashing.timeout-ms:5000}") long timeoutMs) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+
+        this.queueTimer = Timer.builder(METRIC_PREFIX + ".queue")
+                .description("Time password hashing tasks wait for a worker")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent in BCrypt encode/matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashing tasks rejected because the queue was full or timed out")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+
+        log.info("Password hashing executor started with {} threads and queue capacity {}", poolSize, queueCapacity);
+    }
+
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginCapacityExceededException(LOGIN_CAPACITY_EXCEEDED_MESSAGE_ES);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginCapacityExceededException(LOGIN_CAPACITY_EXCEEDED_MESSAGE_ES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new LoginCapacityExceededException(LOGIN_CAPACITY_EXCEEDED_MESSAGE_ES);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package org.services.users.utils.exceptions;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
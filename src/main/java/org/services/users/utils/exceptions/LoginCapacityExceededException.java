@@ -0,0 +1,7 @@
+package org.services.users.utils.exceptions;
+
+public class LoginCapacityExceededException extends RuntimeException {
+    public LoginCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.services.users.utils.exceptions;
+
+public class TooManyLoginAttemptsException extends RuntimeException {
+    public TooManyLoginAttemptsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,4 @@
+package org.services.users.utils.security;
+
+public record AccessTokenClaims(Long userId, String role, long expiresAt) {
+}
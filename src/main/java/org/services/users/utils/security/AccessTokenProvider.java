@@ -0,0 +1,115 @@
+package org.services.users.utils.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies compact HMAC-SHA256 access tokens of the form
+ * {@code base64url(userId:role:expiresAt).base64url(signature)}. Verification is pure CPU work
+ * on a clone of a {@link Mac} keyed once at startup, so authenticated requests need no database
+ * or session lookup, and a fresh (virtual) thread per request does not re-initialize the key.
+ */
+@Component
+public class AccessTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String PAYLOAD_SEPARATOR = ":";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long ttlSeconds;
+    private final Mac prototype;
+
+    public AccessTokenProvider(@Value("${users.token.secret:}") String secret,
+                               @Value("${users.token.ttl-seconds:3600}") long ttlSeconds) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("users.token.secret is not set: define ACCESS_TOKEN_SECRET "
+                    + "or run with the dev profile");
+        }
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("users.token.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+
+        SecretKeySpec key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        newMac();
+    }
+
+    public String issue(Long userId, String role) {
+        if (role != null && role.contains(PAYLOAD_SEPARATOR)) {
+            throw new IllegalArgumentException("Role name must not contain '" + PAYLOAD_SEPARATOR + "': " + role);
+        }
+
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        String payload = ENCODER.encodeToString(
+                (userId + PAYLOAD_SEPARATOR + role + PAYLOAD_SEPARATOR + expiresAt).getBytes(StandardCharsets.UTF_8));
+
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    public Optional<AccessTokenClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return Optional.empty();
+        }
+
+        try {
+            String payload = token.substring(0, separator);
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(PAYLOAD_SEPARATOR);
+            if (parts.length != 3) {
+                return Optional.empty();
+            }
+
+            long expiresAt = Long.parseLong(parts[2]);
+            if (Instant.now().getEpochSecond() >= expiresAt) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new AccessTokenClaims(Long.parseLong(parts[0]), parts[1], expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private byte[] sign(String payload) {
+        return newMac().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " provider does not support cloning", e);
+        }
+    }
+}
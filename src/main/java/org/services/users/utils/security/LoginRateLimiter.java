@@ -0,0 +1,167 @@
+package org.services.users.utils.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Ventana deslizante aproximada por email y por IP: dos count-min sketches de tamaño fijo
+// (ventana actual y anterior), así la memoria no crece con las claves y cada intento es un CAS
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String ADDRESS_PREFIX = "address:";
+
+    private final Clock clock;
+    private final long windowMillis;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerAddress;
+    private final int width;
+    private final int mask;
+    private final AtomicReference<Window> current;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByAddress;
+
+    @Autowired
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${users.login-throttle.window-seconds:60}") long windowSeconds,
+                            @Value("${users.login-throttle.max-attempts-per-email:10}") int maxAttemptsPerEmail,
+                            @Value("${users.login-throttle.max-attempts-per-address:100}") int maxAttemptsPerAddress,
+                            @Value("${users.login-throttle.sketch-width:4096}") int sketchWidth) {
+        this(Clock.systemUTC(), meterRegistry, windowSeconds, maxAttemptsPerEmail, maxAttemptsPerAddress, sketchWidth);
+    }
+
+    LoginRateLimiter(Clock clock,
+                     MeterRegistry meterRegistry,
+                     long windowSeconds,
+                     int maxAttemptsPerEmail,
+                     int maxAttemptsPerAddress,
+                     int sketchWidth) {
+        this.clock = clock;
+        this.windowMillis = windowSeconds * 1000;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerAddress = maxAttemptsPerAddress;
+        this.width = Integer.highestOneBit(Math.max(sketchWidth, 64) - 1) << 1;
+        this.mask = width - 1;
+        this.current = new AtomicReference<>(new Window(clock.millis() / windowMillis, DEPTH * width, null));
+        this.rejectedByEmail = Counter.builder("users.login.throttled")
+                .description("Login attempts rejected before touching the database")
+                .tag("key", "email")
+                .register(meterRegistry);
+        this.rejectedByAddress = Counter.builder("users.login.throttled")
+                .description("Login attempts rejected before touching the database")
+                .tag("key", "address")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(String email, String clientAddress) {
+        long now = clock.millis();
+        Window window = windowAt(now / windowMillis);
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+        int[] emailSlots = slots(EMAIL_PREFIX + normalize(email));
+        int[] addressSlots = slots(ADDRESS_PREFIX + (clientAddress == null ? "" : clientAddress));
+
+        if (estimate(window, emailSlots, previousWeight) >= maxAttemptsPerEmail) {
+            rejectedByEmail.increment();
+            log.debug("Login throttled for email key");
+            return false;
+        }
+
+        if (estimate(window, addressSlots, previousWeight) >= maxAttemptsPerAddress) {
+            rejectedByAddress.increment();
+            log.debug("Login throttled for client address {}", clientAddress);
+            return false;
+        }
+
+        increment(window, emailSlots);
+        increment(window, addressSlots);
+        return true;
+    }
+
+    public double getRejectedCount() {
+        return rejectedByEmail.count() + rejectedByAddress.count();
+    }
+
+    private Window windowAt(long epoch) {
+        Window window = current.get();
+        while (window.epoch < epoch) {
+            Window predecessor = window.epoch == epoch - 1 ? window : null;
+            Window next = new Window(epoch, DEPTH * width, predecessor);
+            if (current.compareAndSet(window, next)) {
+                window.predecessor = null;
+                return next;
+            }
+            window = current.get();
+        }
+        return window;
+    }
+
+    private double estimate(Window window, int[] slots, double previousWeight) {
+        double count = minimum(window.counts, slots);
+        Window predecessor = window.predecessor;
+        if (predecessor != null) {
+            count += minimum(predecessor.counts, slots) * previousWeight;
+        }
+        return count;
+    }
+
+    private int minimum(AtomicIntegerArray counts, int[] slots) {
+        int min = Integer.MAX_VALUE;
+        for (int slot : slots) {
+            min = Math.min(min, counts.get(slot));
+        }
+        return min;
+    }
+
+    private void increment(Window window, int[] slots) {
+        for (int slot : slots) {
+            window.counts.incrementAndGet(slot);
+        }
+    }
+
+    private int[] slots(String key) {
+        int hash = key.hashCode();
+        int[] slots = new int[DEPTH];
+        for (int row = 0; row < DEPTH; row++) {
+            slots[row] = row * width + (mix(hash ^ SEEDS[row]) & mask);
+        }
+        return slots;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Window {
+        private final long epoch;
+        private final AtomicIntegerArray counts;
+        private volatile Window predecessor;
+
+        private Window(long epoch, int size, Window predecessor) {
+            this.epoch = epoch;
+            this.counts = new AtomicIntegerArray(size);
+            this.predecessor = predecessor;
+        }
+    }
+}
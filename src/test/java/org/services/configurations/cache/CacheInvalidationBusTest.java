@@ -0,0 +1,136 @@
+package org.services.configurations.cache;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two bus instances against a single-node Mongo replica set, which supports both the
+ * tailable-cursor and the change-stream reader. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationBusTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient mongoClient;
+    private MongoTemplate mongoTemplate;
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mongoClient = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "cache_bus_" + System.nanoTime());
+    }
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(CacheInvalidationBus::stop);
+        mongoClient.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tailable", "change-stream"})
+    void publish_EvictsLocallyAndOnTheOtherNode(String mode) throws InterruptedException {
+        // Arrange
+        RecordingListener listenerA = new RecordingListener();
+        RecordingListener listenerB = new RecordingListener();
+        CacheInvalidationBus nodeA = startBus(listenerA, mode);
+        CacheInvalidationBus nodeB = startBus(listenerB, mode);
+
+        // Act
+        nodeA.publish(CacheNames.PRODUCT, "product-1");
+
+        // Assert
+        assertEquals(List.of("product-1"), listenerA.evictions.poll());
+        assertEquals(List.of("product-1"), listenerB.evictions.poll(5, TimeUnit.SECONDS));
+
+        nodeB.publish(CacheNames.PRODUCT, "product-2");
+        assertEquals(List.of("product-2"), listenerA.evictions.poll(5, TimeUnit.SECONDS));
+        assertNull(listenerA.evictions.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tailable", "change-stream"})
+    void publish_OtherCache_IsIgnored(String mode) throws InterruptedException {
+        // Arrange
+        RecordingListener productListener = new RecordingListener();
+        CacheInvalidationBus nodeA = startBus(new RecordingListener(), mode);
+        startBus(productListener, mode);
+
+        // Act
+        nodeA.publish("order", "order-1", "ORD-1");
+        nodeA.publish(CacheNames.PRODUCT, "product-1");
+
+        // Assert
+        assertEquals(List.of("product-1"), productListener.evictions.poll(5, TimeUnit.SECONDS));
+        assertNull(productListener.evictions.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void tail_LastEventOverwrittenByNewerOnes_EvictsEverything() throws InterruptedException {
+        // Arrange
+        RecordingListener listenerB = new RecordingListener();
+        CacheInvalidationBus nodeA = startBus(new RecordingListener(), "tailable", 5);
+        CacheInvalidationBus nodeB = startBus(listenerB, "tailable", 5);
+        nodeB.stop();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            nodeA.publish(CacheNames.PRODUCT, "product-" + i);
+        }
+        nodeB.start();
+
+        // Assert
+        assertEquals(List.of(CacheInvalidationListener.ALL_KEYS), listenerB.evictions.poll(5, TimeUnit.SECONDS));
+        assertEquals(List.of("product-15"), listenerB.evictions.poll(5, TimeUnit.SECONDS));
+    }
+
+    private CacheInvalidationBus startBus(CacheInvalidationListener listener, String mode) {
+        return startBus(listener, mode, 1000);
+    }
+
+    private CacheInvalidationBus startBus(CacheInvalidationListener listener, String mode, long cappedMaxDocuments) {
+        CacheInvalidationBus bus = new CacheInvalidationBus(mongoTemplate, List.of(listener), true, mode,
+                1024 * 1024, cappedMaxDocuments, 200);
+        buses.add(bus);
+        bus.start();
+        await().atMost(Duration.ofSeconds(10)).until(bus::isListening);
+        return bus;
+    }
+
+    private static class RecordingListener implements CacheInvalidationListener {
+
+        private final BlockingQueue<Collection<String>> evictions = new LinkedBlockingQueue<>();
+
+        @Override
+        public String cacheName() {
+            return CacheNames.PRODUCT;
+        }
+
+        @Override
+        public void evict(Collection<String> keys) {
+            evictions.add(List.copyOf(keys));
+        }
+    }
+}
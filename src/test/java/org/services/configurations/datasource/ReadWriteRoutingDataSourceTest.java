@@ -0,0 +1,168 @@
+package org.services.configurations.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.services.users.model.UserEntity;
+import org.services.users.repository.UserRepository;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "select name from node";
+
+    @Test
+    void readOnlyTransaction_GoesToReplica_WriteGoesToPrimary() {
+        // Arrange
+        Routing routing = routing(database("primary"), Map.of("replica", database("replica")));
+
+        // Act
+        String readNode = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+        String writeNode = routing.write().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertEquals("replica", readNode);
+        assertEquals("primary", writeNode);
+    }
+
+    @Test
+    void readAfterWrite_StaysOnPrimaryUntilScopeClosed() {
+        // Arrange
+        Routing routing = routing(database("primary"), Map.of("replica", database("replica")));
+        Integer seenAfterWrite;
+
+        // Act
+        try (ReadWriteRoutingDataSource.ReadAfterWriteScope scope = ReadWriteRoutingDataSource.openReadAfterWriteScope()) {
+            routing.write().executeWithoutResult(status -> routing.jdbc().update("insert into node (name) values ('written')"));
+            seenAfterWrite = routing.read().execute(status ->
+                    routing.jdbc().queryForObject("select count(*) from node where name = 'written'", Integer.class));
+        }
+        String nodeAfterScope = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertEquals(1, seenAfterWrite);
+        assertEquals("replica", nodeAfterScope);
+    }
+
+    @Test
+    void writeOutsideScope_PinEndsWithItsTransaction() {
+        // Arrange
+        Routing routing = routing(database("primary"), Map.of("replica", database("replica")));
+        TransactionTemplate nestedRead = new TransactionTemplate(routing.transactionManager());
+        nestedRead.setReadOnly(true);
+        nestedRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Act
+        String nodeDuringWrite = routing.write().execute(status -> {
+            routing.jdbc().update("insert into node (name) values ('written')");
+            return nestedRead.execute(inner -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+        });
+        String nodeAfterWrite = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertEquals("primary", nodeDuringWrite);
+        assertEquals("replica", nodeAfterWrite);
+    }
+
+    @Test
+    void loginLookup_FindByEmailGoesToReplica() {
+        // Arrange
+        Routing routing = routing(database("primary"), Map.of("replica", database("replica")));
+        AtomicReference<String> lookupNode = new AtomicReference<>();
+        UserRepository target = mock(UserRepository.class);
+        when(target.findByEmail(anyString())).thenAnswer(invocation -> {
+            lookupNode.set(routing.jdbc().queryForObject(NODE_QUERY, String.class));
+            return Optional.<UserEntity>empty();
+        });
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(UserRepository.class);
+        proxyFactory.addAdvice(new TransactionInterceptor(routing.transactionManager(),
+                new AnnotationTransactionAttributeSource()));
+        UserRepository userRepository = (UserRepository) proxyFactory.getProxy();
+
+        // Act
+        userRepository.findByEmail("user@example.com");
+
+        // Assert
+        assertEquals("replica", lookupNode.get());
+    }
+
+    @Test
+    void readOnlyTransactions_RoundRobinAcrossReplicas() {
+        // Arrange
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", database("replica-a"));
+        replicas.put("replica-b", database("replica-b"));
+        Routing routing = routing(database("primary"), replicas);
+
+        // Act
+        String first = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+        String second = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+        String third = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertNotEquals(first, second);
+        assertEquals(first, third);
+    }
+
+    @Test
+    void unreachableReplica_IsEjectedAndReadsFallBack() {
+        // Arrange
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("broken", new DriverManagerDataSource("jdbc:h2:mem:missing-replica;IFEXISTS=TRUE", "sa", ""));
+        replicas.put("replica", database("replica"));
+        Routing routing = routing(database("primary"), replicas);
+
+        // Act
+        routing.dataSource().checkReplicas();
+        String firstRead = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+        String secondRead = routing.read().execute(status -> routing.jdbc().queryForObject(NODE_QUERY, String.class));
+
+        // Assert
+        assertEquals(1, routing.dataSource().getHealthyReplicaCount());
+        assertEquals("replica", firstRead);
+        assertEquals("replica", secondRead);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(32))");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static Routing routing(DataSource primary, Map<String, DataSource> replicas) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primary, replicas);
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+
+        TransactionTemplate read = new TransactionTemplate(transactionManager);
+        read.setReadOnly(true);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        return new Routing(routingDataSource, new JdbcTemplate(proxy), transactionManager, read, write);
+    }
+
+    private record Routing(ReadWriteRoutingDataSource dataSource, JdbcTemplate jdbc,
+                           DataSourceTransactionManager transactionManager,
+                           TransactionTemplate read, TransactionTemplate write) {
+    }
+}
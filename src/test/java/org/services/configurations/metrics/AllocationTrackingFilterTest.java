@@ -0,0 +1,82 @@
+package org.services.configurations.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationTrackingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HandlerMethod handlerMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        handlerMethod = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+    }
+
+    @Test
+    void doFilter_RecordsBytesAllocatedByTheHandler() throws Exception {
+        // Arrange
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(meterRegistry, 0, "");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sample");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            byte[][] chunks = new byte[16][];
+            for (int i = 0; i < chunks.length; i++) {
+                chunks[i] = new byte[64 * 1024];
+            }
+            res.getWriter().write(String.valueOf(chunks.length));
+        });
+
+        // Assert
+        DistributionSummary summary = meterRegistry.get(AllocationTrackingFilter.METRIC_NAME)
+                .tag("controller", "SampleController")
+                .tag("method", "list")
+                .summary();
+        assertEquals(1, summary.count());
+        assertTrue(summary.totalAmount() >= 16 * 64 * 1024);
+    }
+
+    @Test
+    void record_OverEndpointBudget_CountsBudgetExceeded() {
+        // Arrange
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(meterRegistry, 1_000_000, "SampleController.list=1000");
+
+        // Act
+        filter.record(handlerMethod, 500);
+        filter.record(handlerMethod, 5_000);
+
+        // Assert
+        assertEquals(2, meterRegistry.get(AllocationTrackingFilter.METRIC_NAME).summary().count());
+        assertEquals(1, meterRegistry.get(AllocationTrackingFilter.BUDGET_EXCEEDED_METRIC_NAME).counter().count());
+    }
+
+    @Test
+    void parseBudgets_ReadsCommaSeparatedEntries() {
+        // Act
+        Map<String, Long> budgets = AllocationTrackingFilter.parseBudgets("A.one=10, B.two = 20");
+
+        // Assert
+        assertEquals(Map.of("A.one", 10L, "B.two", 20L), budgets);
+        assertThrows(IllegalArgumentException.class, () -> AllocationTrackingFilter.parseBudgets("A.one"));
+    }
+
+    static class SampleController {
+        public String list() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.services.configurations.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ControllerMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ControllerMetricsInterceptor interceptor;
+    private HandlerMethod handlerMethod;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new ControllerMetricsInterceptor(meterRegistry);
+        handlerMethod = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+    }
+
+    @Test
+    void afterCompletion_RecordsTimerTaggedByControllerMethodAndStatus() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sample");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(201);
+
+        // Act
+        interceptor.preHandle(request, response, handlerMethod);
+        interceptor.afterCompletion(request, response, handlerMethod, null);
+
+        // Assert
+        Timer timer = meterRegistry.get(ControllerMetricsInterceptor.METRIC_NAME)
+                .tag("controller", "SampleController")
+                .tag("method", "list")
+                .tag("status", "201")
+                .tag("exception", "none")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void preHandle_OnAsyncRedispatch_KeepsOriginalStart() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sample");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handlerMethod);
+
+        // Act
+        interceptor.preHandle(request, response, handlerMethod);
+        interceptor.afterCompletion(request, response, handlerMethod, null);
+        interceptor.afterCompletion(request, response, handlerMethod, null);
+
+        // Assert
+        assertEquals(1, meterRegistry.get(ControllerMetricsInterceptor.METRIC_NAME).timer().count());
+    }
+
+    @Test
+    void afterCompletion_NonControllerHandler_RecordsNothing() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/static/logo.png");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        assertNull(meterRegistry.find(ControllerMetricsInterceptor.METRIC_NAME).timer());
+    }
+
+    static class SampleController {
+        public String list() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.services.configurations.querylog;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DbCallCountingDataSourceTest {
+
+    @Test
+    void statements_AreCountedOnlyInsideARequest() {
+        // Arrange
+        DriverManagerDataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:db-calls-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DbCallCountingDataSource(target));
+        jdbcTemplate.execute("create table item (id int)");
+
+        // Act
+        DbCallCounter.begin();
+        String header;
+        try {
+            jdbcTemplate.update("insert into item (id) values (?)", 1);
+            jdbcTemplate.queryForList("select id from item", Integer.class);
+            header = DbCallCounter.headerValue();
+        } finally {
+            DbCallCounter.end();
+        }
+
+        // Assert
+        assertEquals("total=2, mongo=0, jdbc=2", header);
+        assertNull(DbCallCounter.headerValue());
+    }
+}
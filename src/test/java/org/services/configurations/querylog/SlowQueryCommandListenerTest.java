@@ -0,0 +1,65 @@
+package org.services.configurations.querylog;
+
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlowQueryCommandListenerTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void slowCommand_IsShapedFromTheFieldsCopiedAtStart() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(8, 100);
+        SlowQueryCommandListener listener = new SlowQueryCommandListener(slowQueryLog);
+        BsonDocument command = BsonDocument.parse("{find: 'orders', filter: {userId: 7, status: 'PENDING'}, $db: 'shop'}");
+
+        // Act
+        listener.commandStarted(started(1, command));
+        command.getDocument("filter").clear();
+        listener.commandSucceeded(succeeded(1, 150 * MILLIS));
+
+        // Assert
+        SlowQueryRecord record = slowQueryLog.recent(1).get(0);
+        assertEquals("mongo", record.source());
+        assertEquals("find orders filter={userId:?,status:?}", record.shape());
+    }
+
+    @Test
+    void fastCommand_IsNotRecorded() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(8, 100);
+        SlowQueryCommandListener listener = new SlowQueryCommandListener(slowQueryLog);
+
+        // Act
+        listener.commandStarted(started(2, BsonDocument.parse("{find: 'orders', filter: {userId: 7}}")));
+        listener.commandSucceeded(succeeded(2, 5 * MILLIS));
+
+        // Assert
+        assertTrue(slowQueryLog.recent(10).isEmpty());
+    }
+
+    private static CommandStartedEvent started(int requestId, BsonDocument command) {
+        CommandStartedEvent event = mock(CommandStartedEvent.class);
+        when(event.getRequestId()).thenReturn(requestId);
+        when(event.getCommandName()).thenReturn(command.getFirstKey());
+        when(event.getCommand()).thenReturn(command);
+        return event;
+    }
+
+    private static CommandSucceededEvent succeeded(int requestId, long elapsedNanos) {
+        CommandSucceededEvent event = mock(CommandSucceededEvent.class);
+        when(event.getRequestId()).thenReturn(requestId);
+        when(event.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(elapsedNanos);
+        when(event.getResponse()).thenReturn(BsonDocument.parse("{cursor: {firstBatch: [], id: 0}, ok: 1}"));
+        return event;
+    }
+}
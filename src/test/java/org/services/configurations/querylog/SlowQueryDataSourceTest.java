@@ -0,0 +1,47 @@
+package org.services.configurations.querylog;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryDataSourceTest {
+
+    @Test
+    void queriesAndUpdates_AreRecordedWithShapeRowsAndCaller() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(16, 0);
+        DriverManagerDataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:slow-query-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SlowQueryDataSource(target, slowQueryLog));
+        jdbcTemplate.execute("create table item (id int, name varchar(20))");
+
+        // Act
+        jdbcTemplate.update("insert into item (id, name) values (?, ?)", 1, "a");
+        jdbcTemplate.update("insert into item (id, name) values (?, ?)", 2, "b");
+        String previous = RepositoryCallContext.enter("ItemRepository.findAll");
+        List<String> names;
+        try {
+            names = jdbcTemplate.queryForList("select name from item where id in (1, 2)", String.class);
+        } finally {
+            RepositoryCallContext.exit(previous);
+        }
+
+        // Assert
+        SlowQueryRecord query = slowQueryLog.recent(1).get(0);
+        assertEquals(2, names.size());
+        assertEquals("jdbc", query.source());
+        assertEquals("select name from item where id in (?...)", query.shape());
+        assertEquals(2, query.documents());
+        assertEquals("ItemRepository.findAll", query.caller());
+        QueryShapeStats inserts = slowQueryLog.topShapes(10).stream()
+                .filter(stats -> stats.shape().startsWith("insert into item"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("insert into item (id, name) values (?...)", inserts.shape());
+        assertEquals(2, inserts.count());
+    }
+}
@@ -0,0 +1,70 @@
+package org.services.configurations.querylog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void isSlow_ComparesAgainstThreshold() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(8, 100);
+
+        // Act & Assert
+        assertFalse(slowQueryLog.isSlow(99 * MILLIS));
+        assertTrue(slowQueryLog.isSlow(100 * MILLIS));
+    }
+
+    @Test
+    void recent_ReturnsNewestFirstAndOverwritesOldest() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(4, 0);
+
+        // Act
+        for (int i = 0; i < 6; i++) {
+            slowQueryLog.record("mongo", "find orders filter={userId:?}", i * MILLIS, i, "OrderRepository.findById", false);
+        }
+        List<SlowQueryRecord> recent = slowQueryLog.recent(10);
+
+        // Assert
+        assertEquals(4, recent.size());
+        assertEquals(List.of(5L, 4L, 3L, 2L), recent.stream().map(SlowQueryRecord::documents).toList());
+    }
+
+    @Test
+    void topShapes_AggregatesByShapeOrderedByTotalTime() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(16, 0);
+        slowQueryLog.record("mongo", "find products", 10 * MILLIS, 5, "ProductRepository.findAll", false);
+        slowQueryLog.record("mongo", "find orders", 200 * MILLIS, 1, "OrderRepository.findById", false);
+        slowQueryLog.record("mongo", "find products", 30 * MILLIS, 5, "ProductRepository.findAll", false);
+        slowQueryLog.record("jdbc", "select * from user_entity where email=?", 50 * MILLIS, 1, "UserRepository.findByEmail", false);
+
+        // Act
+        List<QueryShapeStats> top = slowQueryLog.topShapes(2);
+
+        // Assert
+        assertEquals(2, top.size());
+        assertEquals("find orders", top.get(0).shape());
+        assertEquals("jdbc", top.get(1).source());
+    }
+
+    @Test
+    void clear_RemovesRecordedQueries() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(4, 0);
+        slowQueryLog.record("mongo", "find orders", MILLIS, 1, "caller", false);
+
+        // Act
+        slowQueryLog.clear();
+
+        // Assert
+        assertTrue(slowQueryLog.recent(10).isEmpty());
+    }
+}
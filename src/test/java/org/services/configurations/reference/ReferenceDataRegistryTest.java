@@ -0,0 +1,61 @@
+package org.services.configurations.reference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.users.model.RoleEntity;
+import org.services.users.repository.RoleRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Test
+    void refresh_LoadsRolesByIdAndCaseInsensitiveName() {
+        // Arrange
+        when(roleRepository.findAll()).thenReturn(List.of(
+                new RoleEntity(1L, "USER", "Cliente"),
+                new RoleEntity(2L, "ADMIN", "Administrador")));
+
+        // Act
+        Map<String, Integer> sizes = referenceDataRegistry.refresh();
+
+        // Assert
+        assertEquals(Map.of("roles", 2), sizes);
+        assertEquals("ADMIN", referenceDataRegistry.findRoleById(2L).orElseThrow().name());
+        assertEquals(1L, referenceDataRegistry.findRoleByName("user").orElseThrow().id());
+        assertTrue(referenceDataRegistry.findRoleByName("GUEST").isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> referenceDataRegistry.getRolesByName().put("GUEST", null));
+    }
+
+    @Test
+    void refresh_ReplacesPreviousSnapshot() {
+        // Arrange
+        when(roleRepository.findAll())
+                .thenReturn(List.of(new RoleEntity(1L, "USER", null)))
+                .thenReturn(List.of(new RoleEntity(1L, "CUSTOMER", null)));
+        referenceDataRegistry.refresh();
+
+        // Act
+        referenceDataRegistry.refresh();
+
+        // Assert
+        assertTrue(referenceDataRegistry.findRoleByName("USER").isEmpty());
+        assertEquals("CUSTOMER", referenceDataRegistry.findRoleById(1L).orElseThrow().name());
+        verify(roleRepository, times(2)).findAll();
+    }
+}
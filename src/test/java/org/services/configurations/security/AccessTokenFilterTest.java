@@ -0,0 +1,123 @@
+package org.services.configurations.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.users.utils.security.AccessTokenProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenFilterTest {
+
+    private static final String SECRET = "test-access-token-secret-0123456789abcdef";
+
+    private AccessTokenProvider accessTokenProvider;
+    private AccessTokenFilter filter;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenProvider = new AccessTokenProvider(SECRET, 3600);
+        filter = new AccessTokenFilter(accessTokenProvider, new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(filter, "tokenRequired", true);
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    void doFilter_ValidToken_PassesWithUserIdFromToken() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = ordersRequest("Bearer " + accessTokenProvider.issue(42L, "USER"));
+        request.addHeader(AccessTokenFilter.USER_ID_HEADER, "7");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertNotNull(forwarded);
+        assertEquals("42", forwarded.getHeader(AccessTokenFilter.USER_ID_HEADER));
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_TamperedToken_IsRejected() throws Exception {
+        // Arrange
+        String token = accessTokenProvider.issue(42L, "USER");
+        String forged = accessTokenProvider.issue(1L, "ADMIN").split("\\.")[0] + "." + token.split("\\.")[1];
+
+        // Act
+        filter.doFilter(ordersRequest("Bearer " + forged), response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ExpiredToken_IsRejected() throws Exception {
+        // Arrange
+        String expired = new AccessTokenProvider(SECRET, 0).issue(42L, "USER");
+
+        // Act
+        filter.doFilter(ordersRequest("Bearer " + expired), response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_MissingTokenWhenRequired_IsRejected() throws Exception {
+        // Act
+        filter.doFilter(ordersRequest(null), response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertTrue(response.getContentAsString().contains("message"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_MissingTokenWhenOptional_KeepsLegacyHeader() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "tokenRequired", false);
+        MockHttpServletRequest request = ordersRequest(null);
+        request.addHeader(AccessTokenFilter.USER_ID_HEADER, "7");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals("7", ((HttpServletRequest) chain.getRequest()).getHeader(AccessTokenFilter.USER_ID_HEADER));
+    }
+
+    @Test
+    void doFilter_OtherPath_IsNotGuarded() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/product");
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertSame(request, chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    private static MockHttpServletRequest ordersRequest(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return request;
+    }
+}
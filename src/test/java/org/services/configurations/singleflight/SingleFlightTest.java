@@ -0,0 +1,108 @@
+package org.services.configurations.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    void execute_ConcurrentIdenticalCalls_ShareOneLoad() throws Exception {
+        // Arrange
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            // Act
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("image-bytes", "image-1", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return "bytes";
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("image-bytes", "image-1", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (coalescedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertEquals("bytes", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, meterRegistry.get(SingleFlight.METRIC_NAME).tag("result", "leader").counter().count());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_AfterCompletion_LoadsAgain() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("product-by-id", "p-1", loads::incrementAndGet);
+        singleFlight.execute("product-by-id", "p-1", loads::incrementAndGet);
+        singleFlight.execute("product-by-id", "p-2", loads::incrementAndGet);
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void execute_LoaderFails_PropagatesAndClearsFlight() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("catalog-page", 0, () -> {
+            throw new IllegalStateException("mongo down");
+        }));
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("ok", singleFlight.execute("catalog-page", 0, () -> "ok"));
+    }
+
+    private double coalescedCount() {
+        Counter counter = meterRegistry.find(SingleFlight.METRIC_NAME).tag("result", "coalesced").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.services.configurations.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerTiming.end();
+        ServerTiming.setEnabled(false);
+    }
+
+    @Test
+    void start_WhenDisabled_ReturnsSharedNoopSpan() {
+        // Arrange
+        ServerTiming.setEnabled(false);
+        ServerTiming.begin();
+
+        // Act
+        ServerTiming.Span first = ServerTiming.start("insert");
+        ServerTiming.Span second = ServerTiming.start("bcrypt");
+        first.close();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(0, ServerTiming.current().headerValue().split(",").length - 1);
+    }
+
+    @Test
+    void start_OutsideRequest_ReturnsNoopSpan() {
+        // Arrange
+        ServerTiming.setEnabled(true);
+
+        // Act
+        ServerTiming.Span span = ServerTiming.start("insert");
+        span.close();
+
+        // Assert
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    void headerValue_SumsRepeatedPhasesAndAppendsTotal() {
+        // Arrange
+        ServerTiming.setEnabled(true);
+        ServerTiming.begin();
+        ServerTiming.Recorder recorder = ServerTiming.current();
+
+        // Act
+        recorder.add("product-lookup", 1_500_000);
+        recorder.add("product-lookup", 1_000_000);
+        recorder.add("insert", 42_000);
+        try (ServerTiming.Span span = ServerTiming.start("bcrypt")) {
+            assertNotNull(span);
+        }
+        String header = recorder.headerValue();
+
+        // Assert
+        assertTrue(header.startsWith("product-lookup;dur=2.500, insert;dur=0.042, bcrypt;dur="), header);
+        assertTrue(header.contains(", total;dur="), header);
+    }
+}
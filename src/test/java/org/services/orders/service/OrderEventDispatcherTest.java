@@ -0,0 +1,125 @@
+package org.services.orders.service;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.orders.model.OrderEventEntity;
+import org.services.orders.model.OrderEventOffset;
+import org.services.orders.repository.OrderEventOffsetRepository;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventDispatcherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private OrderEventOffsetRepository offsetRepository;
+
+    @Mock
+    private OrderEventLease lease;
+
+    @Mock
+    private OrderEventHandler handler;
+
+    private OrderEventDispatcher dispatcher;
+
+    private OrderEventEntity firstEvent;
+    private OrderEventEntity secondEvent;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OrderEventDispatcher(mongoTemplate, offsetRepository, lease, List.of(handler));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+
+        firstEvent = new OrderEventEntity();
+        firstEvent.setId(new ObjectId().toHexString());
+        firstEvent.setOrderId("order-1");
+
+        secondEvent = new OrderEventEntity();
+        secondEvent.setId(new ObjectId().toHexString());
+        secondEvent.setOrderId("order-2");
+
+        when(handler.name()).thenReturn("test-handler");
+        lenient().when(lease.tryAcquire("handler:test-handler")).thenReturn(true);
+    }
+
+    @Test
+    void drain_DeliversEventsAndAdvancesOffset() {
+
+        when(offsetRepository.findById("test-handler")).thenReturn(Optional.empty());
+        when(mongoTemplate.find(any(Query.class), eq(OrderEventEntity.class)))
+                .thenReturn(List.of(firstEvent, secondEvent));
+
+
+        dispatcher.drain(handler);
+
+
+        verify(handler).handle(firstEvent);
+        verify(handler).handle(secondEvent);
+
+        ArgumentCaptor<OrderEventOffset> captor = ArgumentCaptor.forClass(OrderEventOffset.class);
+        verify(offsetRepository).save(captor.capture());
+        assertEquals(secondEvent.getId(), captor.getValue().getLastEventId());
+    }
+
+    @Test
+    void drain_HandlerFailure_KeepsOffsetAtLastDeliveredEvent() {
+
+        when(offsetRepository.findById("test-handler")).thenReturn(Optional.empty());
+        when(mongoTemplate.find(any(Query.class), eq(OrderEventEntity.class)))
+                .thenReturn(List.of(firstEvent, secondEvent));
+        doThrow(new IllegalStateException("boom")).when(handler).handle(secondEvent);
+
+
+        dispatcher.drain(handler);
+
+
+        ArgumentCaptor<OrderEventOffset> captor = ArgumentCaptor.forClass(OrderEventOffset.class);
+        verify(offsetRepository).save(captor.capture());
+        assertEquals(firstEvent.getId(), captor.getValue().getLastEventId());
+    }
+
+    @Test
+    void drain_NoPendingEvents_DoesNotWriteOffset() {
+
+        when(offsetRepository.findById("test-handler"))
+                .thenReturn(Optional.of(new OrderEventOffset("test-handler", firstEvent.getId(), null)));
+        when(mongoTemplate.find(any(Query.class), eq(OrderEventEntity.class))).thenReturn(List.of());
+
+
+        dispatcher.drain(handler);
+
+
+        verify(handler, never()).handle(any());
+        verify(offsetRepository, never()).save(any());
+    }
+
+    @Test
+    void drain_LeaseHeldByAnotherNode_DeliversNothing() {
+
+        when(lease.tryAcquire("handler:test-handler")).thenReturn(false);
+
+
+        dispatcher.drain(handler);
+
+
+        verifyNoInteractions(mongoTemplate, offsetRepository);
+        verify(handler, never()).handle(any());
+    }
+}
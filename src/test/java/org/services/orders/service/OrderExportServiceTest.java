@@ -0,0 +1,181 @@
+package org.services.orders.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.OrderItem;
+import org.services.orders.utils.exceptions.InvalidExportRequestException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private OrderExportService orderExportService;
+    private OrderEntity order;
+    private AtomicBoolean cursorClosed;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(mongoTemplate, new ObjectMapper());
+        cursorClosed = new AtomicBoolean();
+
+        order = new OrderEntity();
+        order.setId("order-1");
+        order.setUserId(7L);
+        order.setStatus(OrderEntity.OrderStatus.SHIPPED);
+        order.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 30));
+        order.setPaymentMethod("CREDIT_CARD");
+        order.setTrackingCode("ORD-1");
+        order.setTotal(new BigDecimal("45000.50"));
+        order.setItems(List.of(
+                new OrderItem("p-1", "Camiseta, talla \"M\"", null, 1, new BigDecimal("15000.50"), new BigDecimal("15000.50")),
+                new OrderItem("p-2", "Pantalón\nvaquero", null, 2, new BigDecimal("15000"), new BigDecimal("30000"))));
+    }
+
+    @Test
+    void exportOrders_Csv_WritesGzippedHeaderAndEscapedRows() throws IOException {
+
+        stubCursor(Stream.of(order));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+
+        orderExportService.exportOrders(FROM, TO, OrderExportService.ExportFormat.CSV, null, out);
+
+
+        String csv = gunzip(out.toByteArray());
+        assertTrue(csv.startsWith("orderId,createdAt,userId,status,paymentMethod,trackingCode,orderTotal,"));
+        assertTrue(csv.contains("order-1,2025-01-15T10:30,7,SHIPPED,CREDIT_CARD,ORD-1,45000.50,p-1,\"Camiseta, talla \"\"M\"\"\",1,15000.50,15000.50\n"));
+        assertTrue(csv.contains(",p-2,\"Pantalón\nvaquero\",2,15000,30000\n"));
+        assertTrue(cursorClosed.get());
+    }
+
+    @Test
+    void exportOrders_Ndjson_WritesOneJsonObjectPerItem() throws IOException {
+
+        stubCursor(Stream.of(order));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+
+        orderExportService.exportOrders(FROM, TO, OrderExportService.ExportFormat.NDJSON, null, out);
+
+
+        String[] lines = gunzip(out.toByteArray()).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("order-1", first.get("orderId").asText());
+        assertEquals(7, first.get("userId").asLong());
+        assertTrue(lines[0].contains("\"unitPrice\":15000.50"));
+        assertEquals("Pantalón\nvaquero", new ObjectMapper().readTree(lines[1]).get("productName").asText());
+    }
+
+    @Test
+    void exportOrders_OrderWithoutItems_IsSkipped() throws IOException {
+
+        order.setItems(null);
+        stubCursor(Stream.of(order));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+
+        orderExportService.exportOrders(FROM, TO, OrderExportService.ExportFormat.NDJSON, null, out);
+
+
+        assertEquals("", gunzip(out.toByteArray()));
+    }
+
+    @Test
+    void exportOrders_ClientAborts_ClosesCursor() {
+
+        stubCursor(Stream.generate(this::orderWithRandomNames).limit(20_000));
+        OutputStream abortedClient = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (++written > 1024) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+
+
+        assertThrows(IOException.class, () ->
+                orderExportService.exportOrders(FROM, TO, OrderExportService.ExportFormat.CSV, null, abortedClient));
+
+
+        assertTrue(cursorClosed.get());
+    }
+
+    @Test
+    void validateExport_ValidRequest_ReturnsFormat() {
+
+        OrderExportService.ExportFormat format =
+                orderExportService.validateExport(FROM, TO, "ndjson", new ObjectId().toHexString());
+
+
+        assertEquals(OrderExportService.ExportFormat.NDJSON, format);
+        assertEquals("ndjson", format.getExtension());
+    }
+
+    @Test
+    void validateExport_InvalidRequests_ThrowException() {
+
+        assertThrows(InvalidExportRequestException.class, () -> orderExportService.validateExport(TO, FROM, "csv", null));
+        assertThrows(InvalidExportRequestException.class, () -> orderExportService.validateExport(FROM, FROM, "csv", null));
+        assertThrows(InvalidExportRequestException.class, () -> orderExportService.validateExport(null, TO, "csv", null));
+        assertThrows(InvalidExportRequestException.class, () -> orderExportService.validateExport(FROM, TO, "xml", null));
+        assertThrows(InvalidExportRequestException.class, () -> orderExportService.validateExport(FROM, TO, null, null));
+        assertThrows(InvalidExportRequestException.class, () -> orderExportService.validateExport(FROM, TO, "csv", "not-an-id"));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private void stubCursor(Stream<OrderEntity> orders) {
+        when(mongoTemplate.stream(any(Query.class), eq(OrderEntity.class)))
+                .thenReturn(orders.onClose(() -> cursorClosed.set(true)));
+    }
+
+    private OrderEntity orderWithRandomNames() {
+        OrderEntity random = new OrderEntity();
+        random.setId(new ObjectId().toHexString());
+        random.setItems(List.of(new OrderItem(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                null, 1, BigDecimal.ONE, BigDecimal.ONE)));
+        return random;
+    }
+
+    private static String gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.services.orders.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.OrderEventEntity;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private OrderEventLease lease;
+
+    private OrderOutboxRelay relay;
+    private OrderEventPublisher publisher;
+    private OrderEntity order;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OrderOutboxRelay(mongoTemplate, lease, 100);
+        publisher = new OrderEventPublisher();
+
+        order = new OrderEntity();
+        order.setId("order-1");
+        order.setUserId(7L);
+        order.setTotal(new BigDecimal("30000"));
+        order.setStatus(OrderEntity.OrderStatus.PENDING);
+    }
+
+    @Test
+    void stage_AddsEventToOrderDocument() {
+
+        publisher.stageOrderCreated(order);
+        order.setStatus(OrderEntity.OrderStatus.SHIPPED);
+        publisher.stageStatusChanged(order, OrderEntity.OrderStatus.PENDING);
+
+
+        assertEquals(2, order.getPendingEvents().size());
+        assertEquals(OrderEventEntity.OrderEventType.ORDER_CREATED, order.getPendingEvents().get(0).getType());
+        assertEquals(OrderEntity.OrderStatus.PENDING, order.getPendingEvents().get(1).getPreviousStatus());
+        assertNotEquals(order.getPendingEvents().get(0).getEventId(), order.getPendingEvents().get(1).getEventId());
+    }
+
+    @Test
+    void relay_UpsertsEachEventByIdThenPullsThem() {
+
+        publisher.stageOrderCreated(order);
+        publisher.stageStatusChanged(order, OrderEntity.OrderStatus.PENDING);
+
+
+        relay.relay(order);
+
+
+        ArgumentCaptor<Query> upserts = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).upsert(upserts.capture(), any(Update.class), eq(OrderEventEntity.class));
+        assertEquals(order.getPendingEvents().get(0).getEventId(),
+                upserts.getAllValues().get(0).getQueryObject().get("sourceEventId"));
+
+        ArgumentCaptor<Update> pull = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), pull.capture(), eq(OrderEntity.class));
+        assertTrue(pull.getValue().getUpdateObject().containsKey("$pull"));
+    }
+
+    @Test
+    void relayPendingEvents_LeaseHeldByAnotherNode_DoesNothing() {
+
+        when(lease.tryAcquire(OrderOutboxRelay.LEASE_NAME)).thenReturn(false);
+
+
+        relay.relayPendingEvents();
+
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void relayPendingEvents_RelaysEveryOrderWithPendingEvents() {
+
+        publisher.stageOrderCreated(order);
+        when(lease.tryAcquire(OrderOutboxRelay.LEASE_NAME)).thenReturn(true);
+        when(mongoTemplate.find(any(Query.class), eq(OrderEntity.class))).thenReturn(List.of(order));
+
+
+        relay.relayPendingEvents();
+
+
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(OrderEventEntity.class));
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(OrderEntity.class));
+    }
+}
@@ -3,12 +3,15 @@ package org.services.orders.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.services.orders.dto.request.CreateOrderRequest;
 import org.services.orders.dto.response.CreateOrderResponse;
+import org.services.orders.dto.response.OrderLookupResponse;
 import org.services.orders.dto.response.OrderResponse;
+import org.services.orders.utils.exceptions.BatchLimitExceededException;
 import org.services.orders.utils.exceptions.InvalidPaymentMethodException;
 import org.services.orders.utils.exceptions.ProductNotFoundException;
 import org.services.orders.model.OrderEntity;
@@ -18,18 +21,21 @@ import org.services.orders.repository.OrderRepository;
 import org.services.orders.utils.TrackingCodeGenerator;
 import org.services.products.model.ProductEntity;
 import org.services.products.repository.ProductRepository;
+import org.services.testsupport.DbCallGuard;
+import org.services.testsupport.DbCallGuardExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+@ExtendWith({MockitoExtension.class, DbCallGuardExtension.class})
 class OrderServiceTest {
 
     @Mock
@@ -41,6 +47,12 @@ class OrderServiceTest {
     @Mock
     private TrackingCodeGenerator trackingCodeGenerator;
 
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
+    @Mock
+    private UserOrderStatsService userOrderStatsService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -102,7 +114,7 @@ class OrderServiceTest {
     @Test
     void createOrder_Success() {
 
-        when(productRepository.findById("test-product-id")).thenReturn(Optional.of(testProduct));
+        when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
         when(trackingCodeGenerator.generateTrackingCode()).thenReturn("ORD-20250115-1234");
         when(orderRepository.existsByTrackingCode("ORD-20250115-1234")).thenReturn(false);
         when(orderRepository.save(any(OrderEntity.class))).thenReturn(savedOrder);
@@ -118,8 +130,11 @@ class OrderServiceTest {
         assertNotNull(result.getCreatedAt());
         assertEquals("ORD-20250115-1234", result.getTrackingCode());
 
-        verify(productRepository).findById("test-product-id");
-        verify(orderRepository).save(any(OrderEntity.class));
+        InOrder inOrder = inOrder(orderEventPublisher, orderRepository);
+        inOrder.verify(orderEventPublisher).stageOrderCreated(any(OrderEntity.class));
+        inOrder.verify(orderRepository).save(any(OrderEntity.class));
+        verify(productRepository).findAllById(any());
+        verify(userOrderStatsService).recordOrderCreated(savedOrder);
     }
 
     @Test
@@ -132,7 +147,7 @@ class OrderServiceTest {
             orderService.createOrder(validRequest, 123L);
         });
 
-        verify(productRepository, never()).findById(anyString());
+        verify(productRepository, never()).findAllById(any());
         verify(orderRepository, never()).save(any(OrderEntity.class));
     }
 
@@ -146,7 +161,7 @@ class OrderServiceTest {
             orderService.createOrder(validRequest, 123L);
         });
 
-        verify(productRepository, never()).findById(anyString());
+        verify(productRepository, never()).findAllById(any());
         verify(orderRepository, never()).save(any(OrderEntity.class));
     }
 
@@ -160,7 +175,7 @@ class OrderServiceTest {
             orderService.createOrder(validRequest, 123L);
         });
 
-        verify(productRepository, never()).findById(anyString());
+        verify(productRepository, never()).findAllById(any());
         verify(orderRepository, never()).save(any(OrderEntity.class));
     }
 
@@ -173,21 +188,21 @@ class OrderServiceTest {
         validRequest.setItems(List.of(itemRequest));
 
 
-        when(productRepository.findById("non-existent-id")).thenReturn(Optional.empty());
+        when(productRepository.findAllById(any())).thenReturn(List.of());
 
 
         assertThrows(ProductNotFoundException.class, () -> {
             orderService.createOrder(validRequest, 123L);
         });
 
-        verify(productRepository).findById("non-existent-id");
+        verify(productRepository).findAllById(any());
         verify(orderRepository, never()).save(any(OrderEntity.class));
     }
 
     @Test
     void createOrder_InvalidQuantity_ThrowsException() {
 
-        when(productRepository.findById("test-product-id")).thenReturn(Optional.of(testProduct));
+        when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
 
         CreateOrderRequest.OrderItemRequest itemRequest = new CreateOrderRequest.OrderItemRequest();
         itemRequest.setProductId("test-product-id");
@@ -200,10 +215,46 @@ class OrderServiceTest {
             orderService.createOrder(validRequest, 123L);
         });
 
-        verify(productRepository).findById("test-product-id"); // se alcanza esta línea
+        verify(productRepository).findAllById(any()); // se alcanza esta línea
         verify(orderRepository, never()).save(any(OrderEntity.class));
     }
 
+    @Test
+    void createOrder_FiftyItems_IssuesAtMostFourDatabaseCalls(DbCallGuard dbCalls) {
+
+        List<ProductEntity> products = IntStream.range(0, 50)
+                .mapToObj(i -> {
+                    ProductEntity product = new ProductEntity();
+                    product.setId("product-" + i);
+                    product.setName("Product " + i);
+                    product.setPrice(1000.0 + i);
+                    return product;
+                })
+                .toList();
+        validRequest.setItems(products.stream()
+                .map(product -> {
+                    CreateOrderRequest.OrderItemRequest itemRequest = new CreateOrderRequest.OrderItemRequest();
+                    itemRequest.setProductId(product.getId());
+                    itemRequest.setQuantity(1);
+                    return itemRequest;
+                })
+                .toList());
+
+        when(productRepository.findAllById(any())).thenReturn(products);
+        when(trackingCodeGenerator.generateTrackingCode()).thenReturn("ORD-20250115-1234");
+        when(orderRepository.existsByTrackingCode("ORD-20250115-1234")).thenReturn(false);
+        when(orderRepository.save(any(OrderEntity.class))).thenReturn(savedOrder);
+        // findAllById, existsByTrackingCode, save (con el evento embebido) y el upsert de estadísticas.
+        // El publisher sólo añade el evento al documento, así que no hace ninguna llamada propia.
+        dbCalls.track(userOrderStatsService);
+
+
+        dbCalls.assertAtMost(4, () -> orderService.createOrder(validRequest, 123L));
+
+
+        verify(productRepository, never()).findById(anyString());
+    }
+
     @Test
     void getUserOrders_Success() {
 
@@ -278,4 +329,55 @@ class OrderServiceTest {
         verify(orderRepository).findById("non-existent-id");
         verify(orderRepository, never()).save(any(OrderEntity.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void updateOrderStatus_StagesEventBeforeSave() {
+
+        when(orderRepository.findById("order-id")).thenReturn(Optional.of(savedOrder));
+        when(orderRepository.save(savedOrder)).thenReturn(savedOrder);
+
+
+        orderService.updateOrderStatus("order-id", OrderEntity.OrderStatus.SHIPPED);
+
+
+        InOrder inOrder = inOrder(orderEventPublisher, orderRepository);
+        inOrder.verify(orderEventPublisher).stageStatusChanged(savedOrder, OrderEntity.OrderStatus.PENDING);
+        inOrder.verify(orderRepository).save(savedOrder);
+    }
+
+    @Test
+    void getOrdersByIds_KeepsRequestOrderAndMarksMissing() {
+
+        when(orderRepository.findByIdInAndUserId(anyCollection(), eq(123L))).thenReturn(List.of(savedOrder));
+
+
+        List<OrderLookupResponse> result = orderService.getOrdersByIds(List.of("missing-id", "order-id"), 123L);
+
+
+        assertEquals(2, result.size());
+        assertEquals("missing-id", result.get(0).getId());
+        assertFalse(result.get(0).isFound());
+        assertNull(result.get(0).getOrder());
+        assertEquals("order-id", result.get(1).getId());
+        assertTrue(result.get(1).isFound());
+        assertEquals(savedOrder.getUserId(), result.get(1).getOrder().getUserId());
+
+        verify(orderRepository).findByIdInAndUserId(anyCollection(), eq(123L));
+        verify(orderRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void getOrdersByIds_TooManyIds_ThrowsException() {
+
+        List<String> ids = IntStream.range(0, 101)
+                .mapToObj(i -> "order-" + i)
+                .toList();
+
+
+        assertThrows(BatchLimitExceededException.class, () -> {
+            orderService.getOrdersByIds(ids, 123L);
+        });
+
+        verify(orderRepository, never()).findByIdInAndUserId(anyCollection(), any());
+    }
+}
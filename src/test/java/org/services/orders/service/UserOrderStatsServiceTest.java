@@ -0,0 +1,171 @@
+package org.services.orders.service;
+
+import com.mongodb.client.result.DeleteResult;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.orders.dto.response.UserOrderStatsResponse;
+import org.services.orders.model.OrderEntity;
+import org.services.orders.model.UserOrderStatsEntity;
+import org.services.orders.repository.UserOrderStatsRepository;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserOrderStatsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private UserOrderStatsRepository userOrderStatsRepository;
+
+    @InjectMocks
+    private UserOrderStatsService userOrderStatsService;
+
+    private OrderEntity order;
+
+    @BeforeEach
+    void setUp() {
+        order = new OrderEntity();
+        order.setId("order-id");
+        order.setUserId(123L);
+        order.setTotal(BigDecimal.valueOf(30000));
+        order.setStatus(OrderEntity.OrderStatus.PENDING);
+        order.setCreatedAt(LocalDateTime.now());
+    }
+
+    @Test
+    void recordOrderCreated_IncrementsCountAndSpend() {
+
+        userOrderStatsService.recordOrderCreated(order);
+
+
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), captor.capture(), eq(UserOrderStatsEntity.class));
+
+        Document inc = (Document) captor.getValue().getUpdateObject().get("$inc");
+        assertEquals(1, inc.get("orderCount"));
+        assertEquals(new Decimal128(BigDecimal.valueOf(30000)), inc.get("totalSpent"));
+    }
+
+    @Test
+    void recordStatusChange_Cancellation_SubtractsOrder() {
+
+        order.setStatus(OrderEntity.OrderStatus.CANCELLED);
+
+
+        userOrderStatsService.recordStatusChange(order, OrderEntity.OrderStatus.PENDING);
+
+
+        ArgumentCaptor<Update> captor = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), captor.capture(), eq(UserOrderStatsEntity.class));
+
+        Document inc = (Document) captor.getValue().getUpdateObject().get("$inc");
+        assertEquals(-1, inc.get("orderCount"));
+        assertEquals(new Decimal128(BigDecimal.valueOf(-30000)), inc.get("totalSpent"));
+    }
+
+    @Test
+    void recordStatusChange_NotInvolvingCancellation_DoesNothing() {
+
+        order.setStatus(OrderEntity.OrderStatus.SHIPPED);
+
+
+        userOrderStatsService.recordStatusChange(order, OrderEntity.OrderStatus.PROCESSING);
+
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void getUserStats_NoDocument_ReturnsZeroes() {
+
+        when(userOrderStatsRepository.findById(999L)).thenReturn(Optional.empty());
+
+
+        UserOrderStatsResponse result = userOrderStatsService.getUserStats(999L);
+
+
+        assertEquals(999L, result.getUserId());
+        assertEquals(0, result.getOrderCount());
+        assertEquals(BigDecimal.ZERO, result.getTotalSpent());
+        assertNull(result.getLastOrderAt());
+    }
+
+    @Test
+    void rebuildAll_WritesUntouchedUsersAndRemovesStaleDocuments() {
+
+        OrderEntity cancelled = order(123L, OrderEntity.OrderStatus.CANCELLED, LocalDateTime.now().minusDays(1));
+        OrderEntity onlyCancelled = order(456L, OrderEntity.OrderStatus.CANCELLED, LocalDateTime.now().minusDays(1));
+        order.setUpdatedAt(LocalDateTime.now().minusDays(1));
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.stream(any(Query.class), eq(OrderEntity.class)))
+                .thenReturn(Stream.of(order, cancelled, onlyCancelled));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserOrderStatsEntity.class)).thenReturn(bulk);
+        when(mongoTemplate.remove(any(Query.class), eq(UserOrderStatsEntity.class))).thenReturn(DeleteResult.acknowledged(1));
+
+
+        int written = userOrderStatsService.rebuildAll();
+
+
+        assertEquals(1, written);
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).upsert(filter.capture(), update.capture());
+        assertEquals(123L, filter.getValue().getQueryObject().get("_id"));
+        assertTrue(filter.getValue().getQueryObject().containsKey("$or"));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(1L, set.get("orderCount"));
+        assertEquals(new Decimal128(BigDecimal.valueOf(30000)), set.get("totalSpent"));
+        verify(bulk).execute();
+        verify(mongoTemplate).remove(any(Query.class), eq(UserOrderStatsEntity.class));
+    }
+
+    @Test
+    void rebuildAll_UserWithOrderWrittenDuringRebuild_IsNeitherOverwrittenNorRemoved() {
+
+        order.setUpdatedAt(LocalDateTime.now().plusMinutes(1));
+        when(mongoTemplate.stream(any(Query.class), eq(OrderEntity.class))).thenReturn(Stream.of(order));
+        when(mongoTemplate.remove(any(Query.class), eq(UserOrderStatsEntity.class))).thenReturn(DeleteResult.acknowledged(0));
+
+
+        int written = userOrderStatsService.rebuildAll();
+
+
+        assertEquals(0, written);
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(UserOrderStatsEntity.class));
+        ArgumentCaptor<Query> stale = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(stale.capture(), eq(UserOrderStatsEntity.class));
+        Document excluded = (Document) stale.getValue().getQueryObject().get("_id");
+        assertTrue(((Collection<?>) excluded.get("$nin")).contains(123L));
+    }
+
+    private static OrderEntity order(Long userId, OrderEntity.OrderStatus status, LocalDateTime updatedAt) {
+        OrderEntity order = new OrderEntity();
+        order.setUserId(userId);
+        order.setTotal(BigDecimal.valueOf(10000));
+        order.setStatus(status);
+        order.setCreatedAt(updatedAt);
+        order.setUpdatedAt(updatedAt);
+        return order;
+    }
+}
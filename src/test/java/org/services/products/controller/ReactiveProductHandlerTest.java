@@ -0,0 +1,59 @@
+package org.services.products.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.products.dto.response.ProductResponse;
+import org.services.products.service.ReactiveProductService;
+import org.services.products.utils.page.PageResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductHandlerTest {
+
+    @Mock
+    private ReactiveProductService reactiveProductService;
+
+    @InjectMocks
+    private ReactiveProductHandler handler;
+
+    @Test
+    void getAllProducts_NonNumericPage_ReturnsBadRequest() {
+        // Arrange
+        MockServerRequest request = MockServerRequest.builder().queryParam("page", "abc").build();
+
+        // Act
+        ServerResponse response = handler.getAllProducts(request).block();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+        verify(reactiveProductService, never()).getAllProducts(anyInt(), anyInt());
+    }
+
+    @Test
+    void getAllProducts_ValidParameters_AreForwarded() {
+        // Arrange
+        MockServerRequest request = MockServerRequest.builder().queryParam("page", "2").queryParam("size", "10").build();
+        when(reactiveProductService.getAllProducts(2, 10))
+                .thenReturn(Mono.just(new PageResult<ProductResponse>(List.of(), 2, 10, 0)));
+
+        // Act
+        ServerResponse response = handler.getAllProducts(request).block();
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+    }
+}
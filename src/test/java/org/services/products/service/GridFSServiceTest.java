@@ -1,18 +1,31 @@
 package org.services.products.service;
 
+import com.mongodb.client.gridfs.model.GridFSFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonString;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.services.configurations.singleflight.SingleFlight;
 import org.services.products.utils.exceptions.InvalidImageFormatException;
+import org.services.products.utils.metrics.GridFsMetrics;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
 import org.springframework.data.mongodb.gridfs.GridFsTemplate;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,6 +38,12 @@ class GridFSServiceTest {
     @Mock
     private GridFsTemplate gridFsTemplate;
 
+    @Mock
+    private GridFsMetrics gridFsMetrics;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @InjectMocks
     private GridFSService gridFSService;
 
@@ -62,6 +81,7 @@ class GridFSServiceTest {
         assertNotNull(result);
         assertEquals(expectedObjectId.toString(), result);
         verify(gridFsTemplate).store(any(), eq("test-image.jpg"), eq("image/jpeg"));
+        verify(gridFsMetrics).recordUpload(validImage.getSize());
     }
 
     @Test
@@ -83,4 +103,50 @@ class GridFSServiceTest {
 
         verify(gridFsTemplate, never()).store(any(), anyString(), anyString());
     }
+
+    @Test
+    void downloadFile_SmallImage_IsReadOnceAndBuffered() throws IOException {
+
+        ReflectionTestUtils.setField(gridFSService, "coalesceMaxBytes", 1024L);
+        byte[] content = "small image".getBytes();
+        GridFSFile gridFSFile = gridFSFile("small", content.length);
+        GridFsResource resource = mock(GridFsResource.class);
+        when(gridFsTemplate.findOne(any(Query.class))).thenReturn(gridFSFile);
+        when(gridFsTemplate.getResource(gridFSFile)).thenReturn(resource);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(content));
+
+
+        InputStream result = gridFSService.downloadFile("small");
+
+
+        assertArrayEquals(content, result.readAllBytes());
+        verify(singleFlight).execute(eq("image-bytes"), eq("small"), any());
+        verify(gridFsMetrics).recordDownload(content.length);
+    }
+
+    @Test
+    void downloadFile_LargeImage_IsStreamedWithoutBuffering() throws IOException {
+
+        ReflectionTestUtils.setField(gridFSService, "coalesceMaxBytes", 1024L);
+        InputStream gridFsStream = new ByteArrayInputStream(new byte[4096]);
+        InputStream countedStream = new ByteArrayInputStream(new byte[0]);
+        GridFSFile gridFSFile = gridFSFile("large", 4096);
+        GridFsResource resource = mock(GridFsResource.class);
+        when(gridFsTemplate.findOne(any(Query.class))).thenReturn(gridFSFile);
+        when(gridFsTemplate.getResource(gridFSFile)).thenReturn(resource);
+        when(resource.getInputStream()).thenReturn(gridFsStream);
+        when(gridFsMetrics.countDownload(gridFsStream)).thenReturn(countedStream);
+
+
+        InputStream result = gridFSService.downloadFile("large");
+
+
+        assertSame(countedStream, result);
+        verify(singleFlight, never()).execute(eq("image-bytes"), any(), any());
+        verify(gridFsMetrics, never()).recordDownload(anyLong());
+    }
+
+    private static GridFSFile gridFSFile(String id, long length) {
+        return new GridFSFile(new BsonString(id), id + ".jpg", length, 255 * 1024, new Date(), new Document());
+    }
 } 
\ No newline at end of file
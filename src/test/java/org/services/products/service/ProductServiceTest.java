@@ -1,16 +1,23 @@
 package org.services.products.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.configurations.cache.CacheInvalidationBus;
+import org.services.configurations.cache.CacheNames;
+import org.services.configurations.singleflight.SingleFlight;
 import org.services.products.dto.request.ProductRequest;
+import org.services.products.dto.response.ProductLookupResponse;
 import org.services.products.dto.response.ProductResponse;
 import org.services.products.dto.response.SaveProductResponse;
 import org.services.products.model.ProductEntity;
 import org.services.products.repository.ProductRepository;
+import org.services.products.utils.exceptions.BatchLimitExceededException;
 import org.services.products.utils.exceptions.ImageUploadException;
 import org.services.products.utils.exceptions.ProductNotFoundException;
 import org.services.products.utils.page.PageResult;
@@ -38,6 +45,12 @@ class ProductServiceTest {
     @Mock
     private GridFSService gridFSService;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @InjectMocks
     private ProductService productService;
 
@@ -78,6 +91,7 @@ class ProductServiceTest {
         assertNotNull(result.time());
 
         verify(productRepository).save(any(ProductEntity.class));
+        verify(cacheInvalidationBus).publish(eq(CacheNames.PRODUCT), any());
     }
 
     @Test
@@ -179,6 +193,7 @@ class ProductServiceTest {
 
         verify(productRepository).findById("non-existent-id");
         verify(productRepository, never()).save(any(ProductEntity.class));
+        verify(cacheInvalidationBus, never()).publish(anyString(), any());
     }
 
     @Test
@@ -209,6 +224,7 @@ class ProductServiceTest {
 
         verify(productRepository).findById("test-id");
         verify(productRepository).deleteProductById("test-id");
+        verify(cacheInvalidationBus).publish(CacheNames.PRODUCT, "test-id");
     }
 
     @Test
@@ -261,4 +277,52 @@ class ProductServiceTest {
         verify(gridFSService).deleteFile("image-id");
         verify(productRepository, never()).deleteProductById(anyString());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getProductsByIds_KeepsRequestOrderAndMarksMissing() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(testProduct));
+
+        List<ProductLookupResponse> result = productService.getProductsByIds(List.of("test-id", "missing-id"));
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(0).found());
+        assertEquals("Test Product", result.get(0).product().getName());
+        assertEquals("missing-id", result.get(1).id());
+        assertFalse(result.get(1).found());
+
+        verify(productRepository).findAllById(anyIterable());
+        verify(productRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void getProductById_Success() {
+
+        when(productRepository.findById("test-id")).thenReturn(Optional.of(testProduct));
+
+
+        ProductResponse result = productService.getProductById("test-id");
+
+
+        assertEquals("test-id", result.getId());
+        assertEquals("Test Product", result.getName());
+        verify(singleFlight).execute(eq("product-by-id"), eq("test-id"), any());
+    }
+
+    @Test
+    void getProductById_NotFound_ThrowsException() {
+
+        when(productRepository.findById("missing")).thenReturn(Optional.empty());
+
+
+        assertThrows(ProductNotFoundException.class, () -> productService.getProductById("missing"));
+    }
+
+    @Test
+    void getProductsByIds_EmptyIds_ThrowsException() {
+        assertThrows(BatchLimitExceededException.class, () -> {
+            productService.getProductsByIds(List.of());
+        });
+
+        verify(productRepository, never()).findAllById(anyIterable());
+    }
+}
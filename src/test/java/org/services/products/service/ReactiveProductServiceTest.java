@@ -0,0 +1,126 @@
+package org.services.products.service;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.products.dto.response.ProductResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.utils.exceptions.ImageNotFoundException;
+import org.services.products.utils.exceptions.ProductNotFoundException;
+import org.services.products.utils.metrics.GridFsMetrics;
+import org.services.products.utils.page.PageResult;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.ReactiveGridFsResource;
+import org.springframework.data.mongodb.gridfs.ReactiveGridFsTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductServiceTest {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Mock
+    private ReactiveGridFsTemplate reactiveGridFsTemplate;
+
+    @Mock
+    private GridFsMetrics gridFsMetrics;
+
+    @InjectMocks
+    private ReactiveProductService reactiveProductService;
+
+    private ProductEntity product;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reactiveProductService, "imageBufferSize", 4);
+
+        product = new ProductEntity("Camiseta", "Algodón", 25000.0);
+        product.setId("product-id");
+        product.setImageId("image-id");
+    }
+
+    @Test
+    void getAllProducts_ReturnsPageWithTotal() {
+        // Arrange
+        when(reactiveMongoTemplate.find(any(Query.class), eq(ProductEntity.class))).thenReturn(Flux.just(product));
+        when(reactiveMongoTemplate.count(any(Query.class), eq(ProductEntity.class))).thenReturn(Mono.just(6L));
+
+        // Act
+        PageResult<ProductResponse> result = reactiveProductService.getAllProducts(0, 5).block();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(1, result.getContent().size());
+        assertEquals("Camiseta", result.getContent().get(0).getName());
+        assertEquals(6, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+    }
+
+    @Test
+    void getProductById_Missing_EmitsProductNotFound() {
+        // Arrange
+        when(reactiveMongoTemplate.findById("missing", ProductEntity.class)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        assertThrows(ProductNotFoundException.class, () -> reactiveProductService.getProductById("missing").block());
+    }
+
+    @Test
+    void getImage_StreamsChunksAndCountsBytes() {
+        // Arrange
+        GridFSFile file = new GridFSFile(new BsonObjectId(new ObjectId()), "image", 8, 4, new Date(),
+                new Document("_contentType", "image/png"));
+        ReactiveGridFsResource resource = mock(ReactiveGridFsResource.class);
+        when(reactiveGridFsTemplate.findOne(any(Query.class))).thenReturn(Mono.just(file));
+        when(reactiveGridFsTemplate.getResource(file)).thenReturn(Mono.just(resource));
+        when(resource.getDownloadStream(anyInt())).thenReturn(Flux.just(buffer("abcd"), buffer("efgh")));
+
+        // Act
+        ReactiveProductService.ImageStream image = reactiveProductService.getImage("image-id").block();
+        List<DataBuffer> chunks = image.content().collectList().block();
+
+        // Assert
+        assertEquals(MediaType.IMAGE_PNG, image.contentType());
+        assertEquals(8, image.length());
+        assertEquals(2, chunks.size());
+        verify(resource).getDownloadStream(4);
+        verify(gridFsMetrics, times(2)).recordDownload(4);
+    }
+
+    @Test
+    void getImage_Missing_EmitsImageNotFound() {
+        // Arrange
+        when(reactiveGridFsTemplate.findOne(any(Query.class))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        assertThrows(ImageNotFoundException.class, () -> reactiveProductService.getImage("missing").block());
+        verify(reactiveGridFsTemplate, never()).getResource(any(GridFSFile.class));
+    }
+
+    private static DataBuffer buffer(String content) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes());
+    }
+}
@@ -0,0 +1,115 @@
+package org.services.products.utils.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.configurations.singleflight.SingleFlight;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCatalogCacheTest {
+
+    private ProductCatalogCache cache;
+    private AtomicInteger loads;
+    private Supplier<Object> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCatalogCache(new ObjectMapper(), new SingleFlight(new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), 2, 50, 8, true, 16);
+        loads = new AtomicInteger();
+        loader = () -> Map.of("content", List.of("producto-" + loads.incrementAndGet()));
+    }
+
+    @Test
+    void getPage_SecondCall_IsServedWithoutLoading() {
+        // Act
+        ProductCatalogCache.CachedPage first = cache.getPage(0, 5, loader);
+        ProductCatalogCache.CachedPage second = cache.getPage(0, 5, loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertTrue(first.matches(first.etag()));
+        assertTrue(first.matches("W/" + first.etag() + ", \"other\""));
+        assertFalse(first.matches("\"other\""));
+    }
+
+    @Test
+    void invalidate_BumpsVersionAndRebuildsPage() {
+        // Arrange
+        ProductCatalogCache.CachedPage before = cache.getPage(0, 5, loader);
+
+        // Act
+        long version = cache.invalidate();
+        ProductCatalogCache.CachedPage after = cache.getPage(0, 5, loader);
+
+        // Assert
+        assertEquals(1, version);
+        assertEquals(2, loads.get());
+        assertEquals(1, after.version());
+        assertNotEquals(before.etag(), after.etag());
+    }
+
+    @Test
+    void getPage_OutsideHotRange_IsNotStored() {
+        // Act
+        cache.getPage(5, 5, loader);
+        cache.getPage(5, 5, loader);
+        cache.getPage(0, 500, loader);
+        cache.getPage(0, 500, loader);
+
+        // Assert
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void getPage_OutsideHotRange_SkipsGzipAndEtag() {
+        // Act
+        ProductCatalogCache.CachedPage deep = cache.getPage(5, 5, loader);
+        ProductCatalogCache.CachedPage large = cache.getPage(0, 500, loader);
+
+        // Assert
+        assertNotNull(deep.json());
+        assertNull(deep.gzip());
+        assertNull(deep.etag());
+        assertNull(large.gzip());
+        assertNull(large.etag());
+        assertFalse(deep.matches("*"));
+    }
+
+    @Test
+    void getPage_StoresGzippedCopyOfTheJson() throws IOException {
+        // Act
+        ProductCatalogCache.CachedPage page = cache.getPage(1, 5, loader);
+
+        // Assert
+        assertNotNull(page.gzip());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(page.gzip()))) {
+            assertArrayEquals(page.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void gzipVariant_HasItsOwnStrongEtagThatStillValidates() {
+        // Act
+        ProductCatalogCache.CachedPage page = cache.getPage(0, 5, loader);
+
+        // Assert
+        assertNotEquals(page.etag(), page.gzipEtag());
+        assertEquals(page.etag(), page.etag(false));
+        assertEquals(page.gzipEtag(), page.etag(true));
+        assertTrue(page.gzipEtag().startsWith("\"") && page.gzipEtag().endsWith("-gzip\""));
+        assertTrue(page.matches(page.gzipEtag()));
+        assertTrue(page.matches("W/" + page.gzipEtag()));
+    }
+}
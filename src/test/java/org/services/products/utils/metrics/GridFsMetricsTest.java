@@ -0,0 +1,29 @@
+package org.services.products.utils.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridFsMetricsTest {
+
+    @Test
+    void countDownload_CountsBytesAsTheyAreRead() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GridFsMetrics gridFsMetrics = new GridFsMetrics(meterRegistry);
+        InputStream counted = gridFsMetrics.countDownload(new ByteArrayInputStream(new byte[1500]));
+
+        // Act
+        counted.read();
+        counted.readAllBytes();
+        gridFsMetrics.recordUpload(300);
+
+        // Assert
+        assertEquals(1500, meterRegistry.get("products.gridfs.bytes").tag("direction", "download").counter().count());
+        assertEquals(300, meterRegistry.get("products.gridfs.bytes").tag("direction", "upload").counter().count());
+    }
+}
@@ -0,0 +1,126 @@
+package org.services.products.utils.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.orders.model.OrderEntity;
+import org.services.products.dto.response.ProductSuggestionResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.repository.ProductRepository;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductAutocompleteIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private ProductAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(16 * 1024 * 1024);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(OrderEntity.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(
+                        new Document("_id", "1").append("units", 5),
+                        new Document("_id", "2").append("units", 40),
+                        new Document("_id", "3").append("units", 12)), new Document()));
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(
+                product("1", "Camiseta de algodón"),
+                product("2", "Camisa de lino"),
+                product("3", "Cámara digital")));
+        index.rebuild();
+    }
+
+    @Test
+    void suggest_Prefix_ReturnsMostPopularFirst() {
+        // Act
+        List<ProductSuggestionResponse> suggestions = index.suggest("cam", 10);
+
+        // Assert
+        assertEquals(List.of("2", "3", "1"), suggestions.stream().map(ProductSuggestionResponse::id).toList());
+        assertEquals(40, suggestions.get(0).popularity());
+    }
+
+    @Test
+    void suggest_AccentsAndInnerWords_AreMatched() {
+        // Assert
+        assertEquals("3", index.suggest("CÁMA", 10).get(0).id());
+        assertEquals("1", index.suggest("algo", 10).get(0).id());
+        assertEquals("2", index.suggest("de l", 10).get(0).id());
+        assertEquals(2, index.suggest("c", 2).size());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_NeverQueriesMongo() {
+        // Act
+        index.suggest("ca", 10);
+        index.suggest("camis", 10);
+
+        // Assert
+        verify(productRepository, times(1)).streamAllBy();
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    void evict_UpdatedAndDeletedProducts_AreMergedIncrementally() {
+        // Arrange
+        when(productRepository.findAllById(List.of("1", "3"))).thenReturn(List.of(product("1", "Cazadora vaquera")));
+
+        // Act
+        index.evict(List.of("1", "3"));
+
+        // Assert
+        assertEquals(List.of("2", "1"), index.suggest("ca", 10).stream().map(ProductSuggestionResponse::id).toList());
+        assertEquals(5, index.suggest("caza", 10).get(0).popularity());
+        assertTrue(index.suggest("camara", 10).isEmpty());
+        assertTrue(index.suggest("algodon", 10).isEmpty());
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), eq(OrderEntity.class), eq(Document.class));
+    }
+
+    @Test
+    void rebuild_OverMemoryBudget_DropsLeastPopularProducts() {
+        // Arrange
+        index = newIndex(700);
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(
+                product("1", "Camiseta de algodón"),
+                product("2", "Camisa de lino"),
+                product("3", "Cámara digital")));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        List<String> ids = index.suggest("c", 10).stream().map(ProductSuggestionResponse::id).toList();
+        assertTrue(ids.contains("2"));
+        assertFalse(ids.contains("1"));
+    }
+
+    private ProductAutocompleteIndex newIndex(long maxBytes) {
+        return new ProductAutocompleteIndex(productRepository, mongoTemplate, new SimpleMeterRegistry(), 10, 48, maxBytes);
+    }
+
+    private static ProductEntity product(String id, String name) {
+        ProductEntity product = new ProductEntity(name, "", 10.0);
+        product.setId(id);
+        return product;
+    }
+}
@@ -0,0 +1,163 @@
+package org.services.products.utils.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.configurations.cache.CacheInvalidationListener;
+import org.services.products.dto.response.ProductSearchResponse;
+import org.services.products.model.ProductEntity;
+import org.services.products.repository.ProductRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(productRepository);
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(
+                product("1", "Camiseta de algodón", "Camiseta básica de manga corta"),
+                product("2", "Pantalón vaquero", "Pantalón de algodón con camisetas a juego"),
+                product("3", "Zapatillas deportivas", "Calzado ligero para correr")));
+        index.rebuild();
+    }
+
+    @Test
+    void search_NameMatch_RanksAboveDescriptionMatch() {
+        // Act
+        ProductSearchResponse response = index.search("camisetas", 10);
+
+        // Assert
+        assertEquals(2, response.totalMatches());
+        assertEquals("1", response.hits().get(0).product().getId());
+        assertEquals("2", response.hits().get(1).product().getId());
+        assertTrue(response.hits().get(0).score() > response.hits().get(1).score());
+    }
+
+    @Test
+    void search_AccentsAndLimit_AreApplied() {
+        // Act
+        ProductSearchResponse response = index.search("ALGODON", 1);
+
+        // Assert
+        assertEquals(2, response.totalMatches());
+        assertEquals(1, response.hits().size());
+    }
+
+    @Test
+    void search_NeverQueriesRepository() {
+        // Act
+        index.search("zapatillas", 10);
+
+        // Assert
+        verify(productRepository, times(1)).streamAllBy();
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    void evict_UpdatedAndDeletedProducts_AreReindexed() {
+        // Arrange
+        when(productRepository.findAllById(List.of("1", "3")))
+                .thenReturn(List.of(product("1", "Sudadera con capucha", "Sudadera de algodón")));
+
+        // Act
+        index.evict(List.of("1", "3"));
+
+        // Assert
+        assertEquals(2, index.size());
+        assertEquals(0, index.search("zapatillas", 10).totalMatches());
+        assertEquals(0, index.search("manga", 10).totalMatches());
+        assertEquals("1", index.search("sudaderas", 10).hits().get(0).product().getId());
+    }
+
+    @Test
+    void index_SameProductUpdatedRepeatedly_KeepsRankingAndPositiveScores() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            index.index(product("1", "Camiseta de algodón", "Camiseta básica de manga corta"));
+        }
+
+        // Act
+        ProductSearchResponse response = index.search("camisetas", 10);
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(2, response.totalMatches());
+        assertEquals("1", response.hits().get(0).product().getId());
+        assertEquals("2", response.hits().get(1).product().getId());
+        assertTrue(response.hits().get(1).score() > 0);
+    }
+
+    @Test
+    void evict_AllKeys_RebuildsFromRepository() {
+        // Arrange
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(product("4", "Gorra", "Gorra de lana")));
+
+        // Act
+        index.evict(List.of(CacheInvalidationListener.ALL_KEYS));
+
+        // Assert
+        assertEquals(1, index.size());
+        assertEquals(0, index.search("camiseta", 10).totalMatches());
+        assertEquals(1, index.search("gorras", 10).totalMatches());
+    }
+
+    @Test
+    void rebuild_WritesDuringBuild_AreReplayedWithoutBlockingSearches() {
+        // Arrange
+        AtomicInteger camisetasDuringRebuild = new AtomicInteger();
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(
+                        product("4", "Gorra", "Gorra de lana"),
+                        product("6", "Guantes", "Guantes de lana"))
+                .peek(product -> {
+                    if (product.getId().equals("4")) {
+                        camisetasDuringRebuild.set(CompletableFuture
+                                .supplyAsync(() -> index.search("camisetas", 10).totalMatches())
+                                .orTimeout(1, TimeUnit.SECONDS)
+                                .join());
+                        index.index(product("5", "Bufanda", "Bufanda de lana"));
+                        index.remove("6");
+                    }
+                }));
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(2, camisetasDuringRebuild.get());
+        assertEquals(2, index.size());
+        assertEquals(1, index.search("bufanda", 10).totalMatches());
+        assertEquals(0, index.search("guantes", 10).totalMatches());
+    }
+
+    @Test
+    void search_BlankQuery_ReturnsNoHits() {
+        // Act
+        ProductSearchResponse response = index.search("  de la ", 10);
+
+        // Assert
+        assertEquals(0, response.totalMatches());
+        assertTrue(response.hits().isEmpty());
+    }
+
+    private static ProductEntity product(String id, String name, String description) {
+        ProductEntity product = new ProductEntity(name, description, 10.0);
+        product.setId(id);
+        return product;
+    }
+}
@@ -0,0 +1,44 @@
+package org.services.products.utils.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpanishTokenizerTest {
+
+    @Test
+    void tokenize_AccentsAndCase_AreFolded() {
+        // Act
+        List<String> terms = SpanishTokenizer.tokenize("Canción del NIÑO");
+
+        // Assert
+        assertEquals(List.of("cancion", "nino"), terms);
+    }
+
+    @Test
+    void tokenize_Plurals_MatchSingulars() {
+        // Assert
+        assertEquals(SpanishTokenizer.tokenize("pantalón"), SpanishTokenizer.tokenize("pantalones"));
+        assertEquals(SpanishTokenizer.tokenize("lápiz"), SpanishTokenizer.tokenize("lápices"));
+        assertEquals(SpanishTokenizer.tokenize("leche"), SpanishTokenizer.tokenize("leches"));
+        assertEquals(SpanishTokenizer.tokenize("camisa"), SpanishTokenizer.tokenize("camisas"));
+    }
+
+    @Test
+    void tokenize_StopWordsAndPunctuation_AreDropped() {
+        // Act
+        List<String> terms = SpanishTokenizer.tokenize("Camiseta de algodón, para el verano!");
+
+        // Assert
+        assertEquals(List.of("camiseta", "algodon", "verano"), terms);
+    }
+
+    @Test
+    void tokenize_NullOrBlank_ReturnsEmpty() {
+        // Assert
+        assertTrue(SpanishTokenizer.tokenize(null).isEmpty());
+        assertTrue(SpanishTokenizer.tokenize("   ").isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package org.services.testsupport;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Counts calls made on mocks while an action runs, so a test can pin the number of database round
+ * trips a service method performs:
+ *
+ * <pre>
+ * dbCalls.track(userOrderStatsService).assertAtMost(4, () -> orderService.createOrder(request, userId));
+ * </pre>
+ *
+ * The guard counts mock invocations, not commands on the wire: each tracked call stands for one
+ * round trip. Repository mocks declared as {@code @Mock} fields are tracked automatically by
+ * {@link DbCallGuardExtension}. Mocked collaborators that reach the database themselves (a stats
+ * service, a mocked MongoTemplate) are invisible until added with {@link #track(Object...)}, so
+ * track them or the bound will be lower than what the real path issues.
+ */
+public final class DbCallGuard {
+
+    private final Supplier<List<Object>> discoveredMocks;
+    private final List<Object> extraMocks = new ArrayList<>();
+
+    DbCallGuard(Supplier<List<Object>> discoveredMocks) {
+        this.discoveredMocks = discoveredMocks;
+    }
+
+    public DbCallGuard track(Object... mocks) {
+        extraMocks.addAll(List.of(mocks));
+        return this;
+    }
+
+    public int count(Runnable action) {
+        Map<String, Integer> before = snapshot();
+        action.run();
+        return total(delta(before, snapshot()));
+    }
+
+    public void assertAtMost(int maxCalls, Runnable action) {
+        Map<String, Integer> before = snapshot();
+        action.run();
+        Map<String, Integer> calls = delta(before, snapshot());
+
+        int total = total(calls);
+        if (total > maxCalls) {
+            fail("Expected at most " + maxCalls + " database calls but got " + total + ": " + calls);
+        }
+    }
+
+    private Map<String, Integer> snapshot() {
+        List<Object> mocks = new ArrayList<>(discoveredMocks.get());
+        mocks.addAll(extraMocks);
+
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Object mock : mocks) {
+            String type = Mockito.mockingDetails(mock).getMockCreationSettings().getTypeToMock().getSimpleName();
+            for (Invocation invocation : Mockito.mockingDetails(mock).getInvocations()) {
+                counts.merge(type + "." + invocation.getMethod().getName(), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Integer> delta(Map<String, Integer> before, Map<String, Integer> after) {
+        Map<String, Integer> delta = new TreeMap<>();
+        after.forEach((method, count) -> {
+            int added = count - before.getOrDefault(method, 0);
+            if (added > 0) {
+                delta.put(method, added);
+            }
+        });
+        return delta;
+    }
+
+    private static int total(Map<String, Integer> calls) {
+        return calls.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
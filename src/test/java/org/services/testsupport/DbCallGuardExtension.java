@@ -0,0 +1,50 @@
+package org.services.testsupport;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Supplies a {@link DbCallGuard} test parameter that tracks every {@code @Mock} field whose type
+ * is a Spring Data repository. Register it after {@code MockitoExtension}.
+ */
+public class DbCallGuardExtension implements ParameterResolver {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == DbCallGuard.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Object testInstance = extensionContext.getRequiredTestInstance();
+        return new DbCallGuard(() -> repositoryMocks(testInstance));
+    }
+
+    private static List<Object> repositoryMocks(Object testInstance) {
+        List<Object> mocks = new ArrayList<>();
+        for (Class<?> type = testInstance.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Mock.class) && Repository.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    try {
+                        Object mock = field.get(testInstance);
+                        if (mock != null && Mockito.mockingDetails(mock).isMock()) {
+                            mocks.add(mock);
+                        }
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return mocks;
+    }
+}
@@ -0,0 +1,81 @@
+package org.services.users.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.users.model.RoleEntity;
+import org.services.users.model.UserEntity;
+import org.services.users.model.UserSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+
+    private static final int USER_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        RoleEntity adminRole = entityManager.persist(new RoleEntity(null, "ADMIN", "Administrador"));
+        RoleEntity userRole = entityManager.persist(new RoleEntity(null, "USER", "Cliente"));
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            UserEntity user = new UserEntity();
+            user.setFirstName("User" + i);
+            user.setLastName("Test");
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("encoded");
+            user.setRole(i % 2 == 0 ? adminRole : userRole);
+            entityManager.persist(user);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPageAfter_LoadsPageWithRoleIdsInOneStatement() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<UserSummary> page = userRepository.findPageAfter(0L, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(20, page.size());
+        assertTrue(page.stream().allMatch(user -> user.roleId() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPageAfter_ContinuesFromCursor() {
+        // Arrange
+        List<UserSummary> firstPage = userRepository.findPageAfter(0L, PageRequest.of(0, 20));
+        Long cursor = firstPage.get(firstPage.size() - 1).id();
+
+        // Act
+        List<UserSummary> secondPage = userRepository.findPageAfter(cursor, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(USER_COUNT - 20, secondPage.size());
+        assertTrue(secondPage.stream().allMatch(user -> user.id() > cursor));
+    }
+}
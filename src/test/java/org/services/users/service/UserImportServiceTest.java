@@ -0,0 +1,197 @@
+package org.services.users.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.services.configurations.reference.ReferenceDataRegistry;
+import org.services.configurations.reference.RoleReference;
+import org.services.users.dto.response.UserImportResponse;
+import org.services.users.dto.response.UserImportRowResult;
+import org.services.users.repository.UserRepository;
+import org.services.users.utils.exceptions.InvalidImportFileException;
+import org.services.users.utils.filter.EmailBloomFilter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportService(jdbcTemplate, transactionManager, userRepository,
+                referenceDataRegistry, passwordEncoder, emailBloomFilter, 2, 2);
+
+        lenient().when(referenceDataRegistry.getRolesByName()).thenReturn(Map.of(
+                "USER", new RoleReference(1L, "USER", null),
+                "ADMIN", new RoleReference(2L, "ADMIN", null)));
+        lenient().when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+    }
+
+    @Test
+    void importUsers_ValidRows_InsertsInBatchesAndHashesPasswords() throws Exception {
+        // Arrange
+        InputStream csv = csv(
+                "John,Doe,1,+1,1990-01-01,john@example.com,secret1,user",
+                "Jane,Doe,2,+2,1991-02-02,jane@example.com,secret2,ADMIN",
+                "Ana,Ruiz,3,+3,,ana@example.com,secret3,USER");
+
+        // Act
+        UserImportResponse response = userImportService.importUsers(csv);
+
+        // Assert
+        assertEquals(3, response.total());
+        assertEquals(3, response.imported());
+        assertEquals(0, response.failed());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(passwordEncoder, times(3)).encode(anyString());
+        verify(referenceDataRegistry, times(1)).getRolesByName();
+        verify(userRepository, never()).findExistingEmails(anyCollection());
+        verify(emailBloomFilter).put("ana@example.com");
+    }
+
+    @Test
+    void importUsers_InvalidRows_ReportsEachFailure() throws Exception {
+        // Arrange
+        InputStream csv = csv(
+                "John,Doe,1,+1,1990-01-01,not-an-email,secret,USER",
+                "Jane,Doe,2,+2,1991-02-02,jane@example.com,secret,GUEST",
+                "Ana,Ruiz,abc,+3,,ana@example.com,secret,USER",
+                "too,few,columns",
+                "Luis,Gil,4,+4,,luis@example.com,secret,USER",
+                "Luis,Gil,4,+4,,LUIS@example.com,secret,USER");
+
+        // Act
+        UserImportResponse response = userImportService.importUsers(csv);
+
+        // Assert
+        assertEquals(6, response.total());
+        assertEquals(1, response.imported());
+        assertEquals(List.of(2, 3, 4, 5, 6, 7), response.rows().stream().map(UserImportRowResult::line).toList());
+        assertTrue(response.rows().get(4).success());
+        assertFalse(response.rows().get(5).success());
+    }
+
+    @Test
+    void importUsers_ExistingEmail_IsReportedWithoutInsert() throws Exception {
+        // Arrange
+        when(emailBloomFilter.mightContain("john@example.com")).thenReturn(true);
+        when(userRepository.findExistingEmails(List.of("john@example.com"))).thenReturn(List.of("john@example.com"));
+        InputStream csv = csv(
+                "John,Doe,1,+1,1990-01-01,john@example.com,secret1,USER",
+                "Jane,Doe,2,+2,1991-02-02,jane@example.com,secret2,USER");
+
+        // Act
+        UserImportResponse response = userImportService.importUsers(csv);
+
+        // Assert
+        assertEquals(1, response.imported());
+        assertFalse(response.rows().get(0).success());
+        verify(passwordEncoder, never()).encode("secret1");
+    }
+
+    @Test
+    void importUsers_BatchFails_RetriesRowByRow() throws Exception {
+        // Arrange
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DuplicateKeyException("duplicate"))
+                .thenReturn(1);
+        InputStream csv = csv(
+                "John,Doe,1,+1,1990-01-01,john@example.com,secret1,USER",
+                "Jane,Doe,2,+2,1991-02-02,jane@example.com,secret2,USER");
+
+        // Act
+        UserImportResponse response = userImportService.importUsers(csv);
+
+        // Assert
+        assertEquals(1, response.imported());
+        assertFalse(response.rows().get(0).success());
+        assertTrue(response.rows().get(1).success());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void importUsers_WrongHeader_ThrowsException() {
+        // Arrange
+        InputStream csv = new ByteArrayInputStream("name,email\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThrows(InvalidImportFileException.class, () -> userImportService.importUsers(csv));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void importUsers_QuotedFields_KeepCommasAndQuotes() throws Exception {
+        // Arrange
+        InputStream csv = csv(
+                "\"Ruiz, Ana\",\"Doe \"\"AJ\"\"\",3,+3,,ana@example.com,\"se,cret\",USER",
+                "\"Pérez, Luis,Gil,4,+4,,luis@example.com,secret,USER",
+                "Luis,Gil \"Jr\",4,+4,,luis@example.com,secret,USER");
+
+        // Act
+        UserImportResponse response = userImportService.importUsers(csv);
+
+        // Assert
+        assertEquals(3, response.total());
+        assertEquals(1, response.imported());
+        assertTrue(response.rows().get(0).success());
+        assertEquals(3, response.rows().get(1).line());
+        assertFalse(response.rows().get(1).success());
+        assertEquals(4, response.rows().get(2).line());
+        assertFalse(response.rows().get(2).success());
+        verify(passwordEncoder).encode("se,cret");
+    }
+
+    @Test
+    void splitCsvLine_HandlesQuotesAndEmptyFields() {
+        assertArrayEquals(new String[]{"a", "b, c", "", "d\"e", ""}, UserImportService.splitCsvLine("a,\"b, c\",,\"d\"\"e\","));
+        assertNull(UserImportService.splitCsvLine("\"open,field"));
+        assertNull(UserImportService.splitCsvLine("\"closed\"trailing,field"));
+    }
+
+    private static InputStream csv(String... rows) {
+        String content = UserImportService.CSV_HEADER + "\n" + String.join("\n", rows) + "\n";
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
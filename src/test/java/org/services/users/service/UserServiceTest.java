@@ -6,15 +6,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.services.configurations.reference.ReferenceDataRegistry;
+import org.services.configurations.reference.RoleReference;
 import org.services.users.dto.request.CreateUserRequest;
-import org.services.users.dto.response.UserResponse;
+import org.services.users.dto.response.UserPageResponse;
 import org.services.users.model.RoleEntity;
 import org.services.users.model.UserEntity;
+import org.services.users.model.UserSummary;
 import org.services.users.repository.RoleRepository;
 import org.services.users.repository.UserRepository;
 import org.services.users.utils.config.PasswordEncoderAdapter;
 import org.services.users.utils.exceptions.UserAlreadyExistsException;
+import org.services.users.utils.filter.EmailBloomFilter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -37,6 +45,12 @@ class UserServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
     @InjectMocks
     private UserService userService;
 
@@ -44,6 +58,7 @@ class UserServiceTest {
     private UserEntity existingUser;
     private RoleEntity userRole;
     private UserEntity savedUser;
+    private RoleReference userReference;
 
     @BeforeEach
     void setUp() {
@@ -71,13 +86,20 @@ class UserServiceTest {
         savedUser.setLastName("Doe");
         savedUser.setEmail("john.doe@example.com");
         savedUser.setRole(userRole);
+
+        userReference = new RoleReference(1L, "USER", "Cliente");
+
+        lenient().when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
+        lenient().when(roleRepository.getReferenceById(1L)).thenReturn(userRole);
+        lenient().when(referenceDataRegistry.findRoleById(1L)).thenReturn(Optional.of(userReference));
+        lenient().when(referenceDataRegistry.findRoleById(2L)).thenReturn(Optional.of(new RoleReference(2L, "ADMIN", null)));
     }
 
     @Test
     void saveUser_Success() {
         // Arrange
         when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.empty());
-        when(roleRepository.findByName(validRequest.getRole())).thenReturn(Optional.of(userRole));
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
         when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
 
@@ -91,11 +113,79 @@ class UserServiceTest {
         assertEquals(savedUser.getEmail(), result.getEmail());
 
         verify(userRepository).findByEmail(validRequest.getEmail());
-        verify(roleRepository).findByName(validRequest.getRole());
+        verify(referenceDataRegistry).findRoleByName(validRequest.getRole());
         verify(passwordEncoderAdapter).encode(validRequest.getPassword());
         verify(userRepository).save(any(UserEntity.class));
     }
 
+    @Test
+    void saveUser_EmailNotInFilter_SkipsExistenceQuery() {
+        // Arrange
+        when(emailBloomFilter.mightContain(validRequest.getEmail())).thenReturn(false);
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
+        when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
+
+        // Act
+        UserEntity result = userService.saveUser(validRequest);
+
+        // Assert
+        assertEquals(savedUser.getId(), result.getId());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(emailBloomFilter).put(savedUser.getEmail());
+    }
+
+    @Test
+    void saveUser_UniqueConstraintViolation_ThrowsUserAlreadyExists() {
+        // Arrange
+        when(emailBloomFilter.mightContain(validRequest.getEmail())).thenReturn(false);
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
+        when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
+        SQLException duplicate = new SQLException(
+                "Duplicate entry 'john.doe@example.com' for key 'user_entity.uk_user_email'", "23000", 1062);
+        when(userRepository.save(any(UserEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry",
+                        new ConstraintViolationException("could not execute statement", duplicate, "user_entity.uk_user_email")));
+
+        // Act & Assert
+        assertThrows(UserAlreadyExistsException.class, () -> {
+            userService.saveUser(validRequest);
+        });
+
+        verify(emailBloomFilter, never()).put(anyString());
+    }
+
+    @Test
+    void saveUser_OtherConstraintViolation_IsRethrown() {
+        // Arrange
+        when(emailBloomFilter.mightContain(validRequest.getEmail())).thenReturn(false);
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
+        when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
+        SQLException foreignKey = new SQLException(
+                "Cannot add or update a child row: a foreign key constraint fails (`fk_role`)", "23000", 1452);
+        when(userRepository.save(any(UserEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("FK",
+                        new ConstraintViolationException("could not execute statement", foreignKey, "fk_role")));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> userService.saveUser(validRequest));
+        verify(emailBloomFilter, never()).put(anyString());
+    }
+
+    @Test
+    void saveUser_DataTooLong_IsRethrown() {
+        // Arrange
+        when(emailBloomFilter.mightContain(validRequest.getEmail())).thenReturn(false);
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
+        when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.save(any(UserEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("too long",
+                        new SQLException("Data too long for column 'phone_number'", "22001", 1406)));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> userService.saveUser(validRequest));
+    }
+
     @Test
     void saveUser_UserAlreadyExists_ThrowsException() {
         // Arrange
@@ -107,7 +197,7 @@ class UserServiceTest {
         });
 
         verify(userRepository).findByEmail(validRequest.getEmail());
-        verify(roleRepository, never()).findByName(anyString());
+        verify(referenceDataRegistry, never()).findRoleByName(anyString());
         verify(userRepository, never()).save(any(UserEntity.class));
     }
 
@@ -123,7 +213,7 @@ class UserServiceTest {
         });
 
         verify(userRepository).findByEmail(validRequest.getEmail());
-        verify(roleRepository, never()).findByName(anyString());
+        verify(referenceDataRegistry, never()).findRoleByName(anyString());
         verify(userRepository, never()).save(any(UserEntity.class));
     }
 
@@ -131,7 +221,7 @@ class UserServiceTest {
     void saveUser_RoleNotFound_ThrowsException() {
         // Arrange
         when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.empty());
-        when(roleRepository.findByName(validRequest.getRole())).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> {
@@ -139,7 +229,7 @@ class UserServiceTest {
         });
 
         verify(userRepository).findByEmail(validRequest.getEmail());
-        verify(roleRepository).findByName(validRequest.getRole());
+        verify(referenceDataRegistry).findRoleByName(validRequest.getRole());
         verify(userRepository, never()).save(any(UserEntity.class));
     }
 
@@ -147,7 +237,7 @@ class UserServiceTest {
     void saveUser_PasswordEncoded() {
         // Arrange
         when(userRepository.findByEmail(validRequest.getEmail())).thenReturn(Optional.empty());
-        when(roleRepository.findByName(validRequest.getRole())).thenReturn(Optional.of(userRole));
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
         when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
 
@@ -164,36 +254,56 @@ class UserServiceTest {
     @Test
     void getAllUsers_Success() {
         // Arrange
-        List<UserEntity> users = Arrays.asList(savedUser);
-        when(userRepository.findAll()).thenReturn(users);
+        UserSummary userSummary = new UserSummary(1L, "John", "Doe", 12345678L, "+1234567890",
+                LocalDate.of(1990, 1, 1), "john.doe@example.com", 1L);
+        when(userRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(userSummary));
 
         // Act
-        List<UserResponse> result = userService.getAllUsers();
+        UserPageResponse result = userService.getAllUsers(null, 20);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(savedUser.getFirstName(), result.get(0).firstName());
-        assertEquals(savedUser.getLastName(), result.get(0).lastName());
-        assertEquals(savedUser.getEmail(), result.get(0).email());
-        assertEquals(savedUser.getRole().getName(), result.get(0).roleName());
-
-        verify(userRepository).findAll();
+        assertEquals(1, result.content().size());
+        assertEquals(savedUser.getFirstName(), result.content().get(0).firstName());
+        assertEquals(savedUser.getLastName(), result.content().get(0).lastName());
+        assertEquals(savedUser.getEmail(), result.content().get(0).email());
+        assertEquals(savedUser.getRole().getName(), result.content().get(0).roleName());
+        assertNull(result.nextCursor());
+
+        verify(userRepository).findPageAfter(eq(0L), any(Pageable.class));
+        verify(userRepository, never()).findAll();
     }
 
     @Test
     void getAllUsers_EmptyList() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(Arrays.asList());
+        when(userRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList());
 
         // Act
-        List<UserResponse> result = userService.getAllUsers();
+        UserPageResponse result = userService.getAllUsers(null, 20);
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.content().isEmpty());
+        assertNull(result.nextCursor());
+
+        verify(userRepository).findPageAfter(eq(0L), any(Pageable.class));
+    }
 
-        verify(userRepository).findAll();
+    @Test
+    void getAllUsers_FullPage_ReturnsNextCursor() {
+        // Arrange
+        UserSummary first = new UserSummary(7L, "John", "Doe", 1L, null, null, "john@example.com", 1L);
+        UserSummary second = new UserSummary(9L, "Jane", "Doe", 2L, null, null, "jane@example.com", 2L);
+        when(userRepository.findPageAfter(eq(5L), any(Pageable.class))).thenReturn(List.of(first, second));
+
+        // Act
+        UserPageResponse result = userService.getAllUsers(5L, 2);
+
+        // Assert
+        assertEquals(2, result.content().size());
+        assertEquals(9L, result.nextCursor());
+        assertEquals("ADMIN", result.content().get(1).roleName());
     }
 
     @Test
@@ -206,7 +316,7 @@ class UserServiceTest {
             "123@example.com"
         };
 
-        when(roleRepository.findByName(validRequest.getRole())).thenReturn(Optional.of(userRole));
+        when(referenceDataRegistry.findRoleByName(validRequest.getRole())).thenReturn(Optional.of(userReference));
         when(passwordEncoderAdapter.encode(validRequest.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
 
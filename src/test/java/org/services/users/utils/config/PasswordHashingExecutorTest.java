@@ -0,0 +1,74 @@
+package org.services.users.utils.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.services.users.utils.exceptions.LoginCapacityExceededException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(meterRegistry, 1, 1, 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_ReturnsTaskResultAndRecordsTimings() {
+        // Act
+        String result = executor.execute(() -> "hash");
+
+        // Assert
+        assertEquals("hash", result);
+        assertEquals(1, meterRegistry.get("users.password.hashing.duration").timer().count());
+        assertEquals(1, meterRegistry.get("users.password.hashing.queue").timer().count());
+    }
+
+    @Test
+    void execute_QueueFull_RejectsImmediately() throws Exception {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(running.await(1, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> true));
+        while (meterRegistry.get("users.password.hashing.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act & Assert
+        assertThrows(LoginCapacityExceededException.class, () -> executor.execute(() -> true));
+        assertEquals(1.0, meterRegistry.get("users.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(busy.get(1, TimeUnit.SECONDS));
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
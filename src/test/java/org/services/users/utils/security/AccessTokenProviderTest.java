@@ -0,0 +1,93 @@
+package org.services.users.utils.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenProviderTest {
+
+    private static final String SECRET = "test-access-token-secret-0123456789abcdef";
+
+    private final AccessTokenProvider accessTokenProvider = new AccessTokenProvider(SECRET, 3600);
+
+    @Test
+    void issueAndVerify_RoundTripsClaims() {
+        // Act
+        String token = accessTokenProvider.issue(42L, "ADMIN");
+        Optional<AccessTokenClaims> claims = accessTokenProvider.verify(token);
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals(42L, claims.get().userId());
+        assertEquals("ADMIN", claims.get().role());
+    }
+
+    @Test
+    void verify_ConcurrentCallers_ShareTheKeyedMacSafely() {
+        // Arrange
+        String token = accessTokenProvider.issue(42L, "USER");
+
+        // Act
+        long verified = IntStream.range(0, 1_000).parallel()
+                .filter(i -> accessTokenProvider.verify(token).isPresent())
+                .count();
+
+        // Assert
+        assertEquals(1_000, verified);
+    }
+
+    @Test
+    void verify_TamperedPayload_IsRejected() {
+        // Arrange
+        String token = accessTokenProvider.issue(42L, "USER");
+        String forgedPayload = accessTokenProvider.issue(1L, "ADMIN").split("\\.")[0];
+        String forged = forgedPayload + "." + token.split("\\.")[1];
+
+        // Act & Assert
+        assertTrue(accessTokenProvider.verify(forged).isEmpty());
+    }
+
+    @Test
+    void verify_TokenFromOtherSecret_IsRejected() {
+        // Arrange
+        AccessTokenProvider other = new AccessTokenProvider("another-secret-that-is-long-enough-0123456789", 3600);
+
+        // Act & Assert
+        assertTrue(accessTokenProvider.verify(other.issue(42L, "USER")).isEmpty());
+    }
+
+    @Test
+    void verify_ExpiredToken_IsRejected() {
+        // Arrange
+        AccessTokenProvider expiring = new AccessTokenProvider(SECRET, 0);
+
+        // Act & Assert
+        assertTrue(expiring.verify(expiring.issue(42L, "USER")).isEmpty());
+    }
+
+    @Test
+    void verify_Garbage_IsRejected() {
+        assertTrue(accessTokenProvider.verify("not-a-token").isEmpty());
+        assertTrue(accessTokenProvider.verify("abc.%%%").isEmpty());
+        assertTrue(accessTokenProvider.verify(null).isEmpty());
+    }
+
+    @Test
+    void issue_RoleWithSeparator_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> accessTokenProvider.issue(42L, "ADMIN:9999999999"));
+    }
+
+    @Test
+    void constructor_ShortSecret_ThrowsException() {
+        assertThrows(IllegalStateException.class, () -> new AccessTokenProvider("short", 3600));
+    }
+
+    @Test
+    void constructor_MissingSecret_ThrowsException() {
+        assertThrows(IllegalStateException.class, () -> new AccessTokenProvider("", 3600));
+        assertThrows(IllegalStateException.class, () -> new AccessTokenProvider(null, 3600));
+    }
+}
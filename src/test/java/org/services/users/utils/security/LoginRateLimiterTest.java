@@ -0,0 +1,100 @@
+package org.services.users.utils.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private MutableClock clock;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(60_000 * 1000L);
+        loginRateLimiter = new LoginRateLimiter(clock, new SimpleMeterRegistry(), 60, 3, 5, 1024);
+    }
+
+    @Test
+    void tryAcquire_OverEmailLimit_IsRejected() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertTrue(loginRateLimiter.tryAcquire("John.Doe@example.com", "10.0.0." + i));
+        }
+
+        // Assert
+        assertFalse(loginRateLimiter.tryAcquire("john.doe@example.com", "10.0.0.9"));
+        assertTrue(loginRateLimiter.tryAcquire("jane.doe@example.com", "10.0.0.9"));
+        assertEquals(1.0, loginRateLimiter.getRejectedCount());
+    }
+
+    @Test
+    void tryAcquire_OverAddressLimit_IsRejected() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertTrue(loginRateLimiter.tryAcquire("user" + i + "@example.com", "10.0.0.1"));
+        }
+
+        // Assert
+        assertFalse(loginRateLimiter.tryAcquire("other@example.com", "10.0.0.1"));
+        assertTrue(loginRateLimiter.tryAcquire("other@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void tryAcquire_PreviousWindowDecaysAsTimePasses() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.tryAcquire("john.doe@example.com", "10.0.0.1");
+        }
+
+        // Act & Assert
+        clock.advance(30_000);
+        assertFalse(loginRateLimiter.tryAcquire("john.doe@example.com", "10.0.0.1"));
+
+        clock.advance(45_000);
+        assertTrue(loginRateLimiter.tryAcquire("john.doe@example.com", "10.0.0.1"));
+
+        clock.advance(180_000);
+        assertTrue(loginRateLimiter.tryAcquire("john.doe@example.com", "10.0.0.1"));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        private void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}